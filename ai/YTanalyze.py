@@ -10,6 +10,7 @@ import nltk, openai, time, torch
 from nltk.tokenize import sent_tokenize
 from transformers import AutoTokenizer, AutoModelForSequenceClassification
 import requests
+from concurrent.futures import ThreadPoolExecutor
 
 from dotenv import load_dotenv
 import os
@@ -162,15 +163,13 @@ def extract_keywords_from_summary(summary_text):
     return []
 
 
-#  유튜브 컨텐츠 요약 엔드포인트
-@app.route('/summarize', methods=['POST'])
-def summarize_endpoint():
-    data = request.get_json()
-    url = data.get("url")
+# 5. 영상 하나의 자막 추출 ~ 요약까지 (편향 점수 예측 전 단계)
+#    성공하면 (준비 결과, None, None), 실패하면 (None, 오류 메시지, 상태 코드)
+def prepare_summary(url):
     transcript, err = get_transcript(url)
-    
+
     if err or not transcript or not isinstance(transcript, str) or transcript.strip() == "":
-        return jsonify({"error": err or "자막 추출 실패"}), 400
+        return None, err or "자막 추출 실패", 400
 
     try:
         # yt-dlp -J 호출로 메타정보 가져오기
@@ -183,19 +182,29 @@ def summarize_endpoint():
     except Exception as e:
         app.logger.warning(f"제목 추출 실패: {e}")
         video_title = ""
-        
+
     try:
         summary = summarize_with_assistant(transcript)
     except Exception as e:
         import traceback
         traceback.print_exc()
-        return jsonify({"error": f"GPT Assistant 처리 실패: {str(e)}"}), 500
+        return None, f"GPT Assistant 처리 실패: {str(e)}", 500
     content_only = summary.split("[KEYWORDS]")[0].strip()
-    sentences = sent_tokenize(content_only)
-    scores = predict_bias(sentences)
+
+    return {
+        "url": url,
+        "title": video_title,
+        "sentences": sent_tokenize(content_only),
+        "queries": extract_keywords_from_summary(summary),
+    }, None, None
+
+
+# 6. 편향 점수와 관련 기사를 붙여 응답 형태로 만듦
+def build_summary_result(prepared, scores):
+    sentences = prepared["sentences"]
+    queries = prepared["queries"]
     avg = sum(scores) / len(scores) if scores else 0
 
-    queries = extract_keywords_from_summary(summary)
     related_articles = {kw: search_news_articles(kw) for kw in queries}
 
     related_articles_result = []
@@ -206,9 +215,9 @@ def summarize_endpoint():
                 "link": art["link"]
             })
 
-    result = {
-        "url": url,
-        "title": video_title,
+    return {
+        "url": prepared["url"],
+        "title": prepared["title"],
         "biasScore": avg,
         "summarySentences": [
             {"content": s, "score": b}
@@ -217,7 +226,73 @@ def summarize_endpoint():
         "relatedArticles": related_articles_result,
         "keywords": list({kw_part for kw in queries for kw_part in kw.split("+")})
     }
-    return jsonify(result)
+
+
+#  유튜브 컨텐츠 요약 엔드포인트
+@app.route('/summarize', methods=['POST'])
+def summarize_endpoint():
+    data = request.get_json()
+    url = data.get("url")
+
+    prepared, err, status = prepare_summary(url)
+    if err:
+        return jsonify({"error": err}), status
+
+    scores = predict_bias(prepared["sentences"]) if prepared["sentences"] else []
+    return jsonify(build_summary_result(prepared, scores))
+
+
+# 한 번에 예측할 최대 문장 수 (메모리 사용량 제한)
+BIAS_BATCH_SIZE = 64
+# 배치 요청 안에서 동시에 자막 추출 / 요약할 영상 수
+BATCH_PREPARE_WORKERS = 8
+
+# prepare_summary 가 (None, 오류, 상태) 로 바꾸지 못한 예외(자막 추출 / 문장 분리 등)도 해당 영상만 500 으로 실패시킴
+# (executor.map 은 첫 예외를 그대로 다시 던져 배치 전체가 500 이 되므로)
+def prepare_summary_safely(url):
+    try:
+        return prepare_summary(url)
+    except Exception as e:
+        app.logger.exception(f"요약 준비 실패: {url}")
+        return None, f"요약 준비 실패: {str(e)}", 500
+
+
+#  유튜브 컨텐츠 일괄 요약 엔드포인트
+#  요청: {"urls": [...]}
+#  응답: {"results": [{"url", "status": 200, "result": {...}} 또는 {"url", "status": 4xx/5xx, "error"}]} (요청 순서 유지)
+#  자막 추출 / 요약은 영상별로 동시에 진행하고, 편향 점수는 모든 영상의 문장을 모아 한 번에 예측
+@app.route('/summarize/batch', methods=['POST'])
+def summarize_batch_endpoint():
+    data = request.get_json() or {}
+    urls = data.get("urls") or []
+    if not urls:
+        return jsonify({"results": []})
+
+    with ThreadPoolExecutor(max_workers=min(BATCH_PREPARE_WORKERS, len(urls))) as executor:
+        prepared_list = list(executor.map(prepare_summary_safely, urls))
+
+    all_sentences = [s for prepared, _, _ in prepared_list if prepared for s in prepared["sentences"]]
+    all_scores = []
+    for start in range(0, len(all_sentences), BIAS_BATCH_SIZE):
+        all_scores.extend(predict_bias(all_sentences[start:start + BIAS_BATCH_SIZE]))
+
+    results = []
+    offset = 0
+    for url, (prepared, err, status) in zip(urls, prepared_list):
+        if err:
+            results.append({"url": url, "status": status, "error": err})
+            continue
+        count = len(prepared["sentences"])
+        scores = all_scores[offset:offset + count]
+        offset += count
+        try:
+            result = build_summary_result(prepared, scores)
+        except Exception as e:
+            app.logger.exception(f"요약 결과 생성 실패: {url}")
+            results.append({"url": url, "status": 500, "error": f"요약 결과 생성 실패: {str(e)}"})
+            continue
+        results.append({"url": url, "status": 200, "result": result})
+    return jsonify({"results": results})
 
 
 #  1. GPT Assistant 토론자 발언 요약 요청
@@ -0,0 +1,257 @@
+package newsbalance.demo.Configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "analysis")
+public class AnalysisConfig {
+    // 분석 서버 주소 (영상 요약 / 토론 요약)
+    private String summarizeBaseUrl = "http://host.docker.internal:8000";
+    private String debateBaseUrl = "http://flask-app:5000";
+    // 사용자 요청(토론 요약, 단건 분석)과 일괄 분석은 서로 다른 커넥션 풀을 써서 일괄 작업이 화면 요청을 막지 않도록 분리
+    private Pool interactive = new Pool(10, Duration.ofSeconds(2), Duration.ofSeconds(2));
+    private Pool bulk = new Pool(16, Duration.ofSeconds(5), Duration.ofMinutes(1));
+    // 엔드포인트별 응답 대기 시간
+    private Duration summarizeTimeout = Duration.ofMinutes(3);
+    private Duration interactiveSummarizeTimeout = Duration.ofSeconds(90);
+    private Duration debateSummarizeTimeout = Duration.ofSeconds(30);
+    // 일괄 분석 시 /summarize/batch 로 묶어 보낼 최대 URL 수 (1 이하면 묶지 않고 /summarize 로 한 건씩)와
+    // 묶음이 다 차지 않았을 때 기다리는 시간, 한 묶음의 응답 대기 시간, 동시에 보내는 묶음 수
+    private int batchSize = 8;
+    private Duration batchLinger = Duration.ofMillis(200);
+    private Duration batchTimeout = Duration.ofMinutes(6);
+    private int batchConcurrency = 2;
+    // 분석 결과 캐시 최대 크기(대략적인 바이트)와, 조회가 없을 때 유지하는 시간
+    private long contentCacheMaxBytes = 32L * 1024 * 1024;
+    private Duration contentCacheExpireAfterAccess = Duration.ofHours(6);
+    // 토론 발언 요약 캐시 최대 항목 수와 유지 시간, 동시에 진행하는 요약 수
+    private long debateSummaryCacheSize = 5_000;
+    private Duration debateSummaryCacheTtl = Duration.ofHours(6);
+    private int debateSummaryConcurrency = 4;
+    // 연속 실패 몇 번이면 얼마 동안 호출을 막을지
+    private int breakerFailureThreshold = 5;
+    private Duration breakerOpenDuration = Duration.ofSeconds(30);
+    // 일괄 분석 작업의 기본 / 최대 동시 요청 수 (분석 서버 처리량에 맞춰 조정)
+    // 묶음 전송을 쓰면 둘 다 batchSize × batchConcurrency 이상으로 적용 (getMinJobParallelism)
+    private int jobParallelism = 16;
+    private int maxJobParallelism = 32;
+    // 끝난 작업 상태를 조회할 수 있게 남겨두는 시간
+    private Duration jobRetention = Duration.ofHours(24);
+
+    public String getSummarizeBaseUrl() {
+        return summarizeBaseUrl;
+    }
+
+    public void setSummarizeBaseUrl(String summarizeBaseUrl) {
+        this.summarizeBaseUrl = summarizeBaseUrl;
+    }
+
+    public String getDebateBaseUrl() {
+        return debateBaseUrl;
+    }
+
+    public void setDebateBaseUrl(String debateBaseUrl) {
+        this.debateBaseUrl = debateBaseUrl;
+    }
+
+    public Pool getInteractive() {
+        return interactive;
+    }
+
+    public void setInteractive(Pool interactive) {
+        this.interactive = interactive;
+    }
+
+    public Pool getBulk() {
+        return bulk;
+    }
+
+    public void setBulk(Pool bulk) {
+        this.bulk = bulk;
+    }
+
+    public Duration getSummarizeTimeout() {
+        return summarizeTimeout;
+    }
+
+    public void setSummarizeTimeout(Duration summarizeTimeout) {
+        this.summarizeTimeout = summarizeTimeout;
+    }
+
+    public Duration getInteractiveSummarizeTimeout() {
+        return interactiveSummarizeTimeout;
+    }
+
+    public void setInteractiveSummarizeTimeout(Duration interactiveSummarizeTimeout) {
+        this.interactiveSummarizeTimeout = interactiveSummarizeTimeout;
+    }
+
+    public Duration getDebateSummarizeTimeout() {
+        return debateSummarizeTimeout;
+    }
+
+    public void setDebateSummarizeTimeout(Duration debateSummarizeTimeout) {
+        this.debateSummarizeTimeout = debateSummarizeTimeout;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getBatchLinger() {
+        return batchLinger;
+    }
+
+    public void setBatchLinger(Duration batchLinger) {
+        this.batchLinger = batchLinger;
+    }
+
+    public Duration getBatchTimeout() {
+        return batchTimeout;
+    }
+
+    public void setBatchTimeout(Duration batchTimeout) {
+        this.batchTimeout = batchTimeout;
+    }
+
+    public int getBatchConcurrency() {
+        return batchConcurrency;
+    }
+
+    public void setBatchConcurrency(int batchConcurrency) {
+        this.batchConcurrency = batchConcurrency;
+    }
+
+    public long getContentCacheMaxBytes() {
+        return contentCacheMaxBytes;
+    }
+
+    public void setContentCacheMaxBytes(long contentCacheMaxBytes) {
+        this.contentCacheMaxBytes = contentCacheMaxBytes;
+    }
+
+    public Duration getContentCacheExpireAfterAccess() {
+        return contentCacheExpireAfterAccess;
+    }
+
+    public void setContentCacheExpireAfterAccess(Duration contentCacheExpireAfterAccess) {
+        this.contentCacheExpireAfterAccess = contentCacheExpireAfterAccess;
+    }
+
+    public long getDebateSummaryCacheSize() {
+        return debateSummaryCacheSize;
+    }
+
+    public void setDebateSummaryCacheSize(long debateSummaryCacheSize) {
+        this.debateSummaryCacheSize = debateSummaryCacheSize;
+    }
+
+    public Duration getDebateSummaryCacheTtl() {
+        return debateSummaryCacheTtl;
+    }
+
+    public void setDebateSummaryCacheTtl(Duration debateSummaryCacheTtl) {
+        this.debateSummaryCacheTtl = debateSummaryCacheTtl;
+    }
+
+    public int getDebateSummaryConcurrency() {
+        return debateSummaryConcurrency;
+    }
+
+    public void setDebateSummaryConcurrency(int debateSummaryConcurrency) {
+        this.debateSummaryConcurrency = debateSummaryConcurrency;
+    }
+
+    public int getBreakerFailureThreshold() {
+        return breakerFailureThreshold;
+    }
+
+    public void setBreakerFailureThreshold(int breakerFailureThreshold) {
+        this.breakerFailureThreshold = breakerFailureThreshold;
+    }
+
+    public Duration getBreakerOpenDuration() {
+        return breakerOpenDuration;
+    }
+
+    public void setBreakerOpenDuration(Duration breakerOpenDuration) {
+        this.breakerOpenDuration = breakerOpenDuration;
+    }
+
+    // 작업자마다 자기 영상 결과를 기다리므로, 동시 요청 수가 batchSize × batchConcurrency 보다 적으면
+    // 묶음이 차지 않아 매번 batchLinger 후에 덜 찬 묶음으로 보내게 됨
+    public int getMinJobParallelism() {
+        return batchSize > 1 ? batchSize * Math.max(1, batchConcurrency) : 1;
+    }
+
+    public int getJobParallelism() {
+        return Math.max(jobParallelism, getMinJobParallelism());
+    }
+
+    public void setJobParallelism(int jobParallelism) {
+        this.jobParallelism = jobParallelism;
+    }
+
+    public int getMaxJobParallelism() {
+        return Math.max(maxJobParallelism, getMinJobParallelism());
+    }
+
+    public void setMaxJobParallelism(int maxJobParallelism) {
+        this.maxJobParallelism = maxJobParallelism;
+    }
+
+    public Duration getJobRetention() {
+        return jobRetention;
+    }
+
+    public void setJobRetention(Duration jobRetention) {
+        this.jobRetention = jobRetention;
+    }
+
+    // 분석 서버 커넥션 풀 (acquireTimeout 이 지나도록 빈 연결이 없으면 바로 실패)
+    public static class Pool {
+        private int maxConnections;
+        private Duration connectTimeout;
+        private Duration acquireTimeout;
+
+        public Pool() {
+        }
+
+        public Pool(int maxConnections, Duration connectTimeout, Duration acquireTimeout) {
+            this.maxConnections = maxConnections;
+            this.connectTimeout = connectTimeout;
+            this.acquireTimeout = acquireTimeout;
+        }
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public Duration getConnectTimeout() {
+            return connectTimeout;
+        }
+
+        public void setConnectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+        }
+
+        public Duration getAcquireTimeout() {
+            return acquireTimeout;
+        }
+
+        public void setAcquireTimeout(Duration acquireTimeout) {
+            this.acquireTimeout = acquireTimeout;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package newsbalance.demo.Configuration;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 분석 서버(Flask) 호출용 커넥션 풀
+// 사용자 요청용 / 일괄 작업용 풀을 따로 둬서 일괄 분석이 연결을 모두 잡고 있어도 화면 요청은 자기 풀을 씀 (bulkhead)
+@Configuration
+public class AnalysisHttpClientConfig {
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager analysisInteractivePool(AnalysisConfig config) {
+        return connectionManager(config.getInteractive());
+    }
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager analysisBulkPool(AnalysisConfig config) {
+        return connectionManager(config.getBulk());
+    }
+
+    private static PoolingHttpClientConnectionManager connectionManager(AnalysisConfig.Pool pool) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(pool.getMaxConnections())
+                .setMaxConnPerRoute(pool.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(pool.getConnectTimeout()))
+                        // 오래 쉬던 keep-alive 연결은 재사용 전에 확인
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+    }
+}
@@ -1,13 +0,0 @@
-package newsbalance.demo.Configuration;
-
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
-
-@Configuration
-public class AppConfig {
-    @Bean
-    public RestTemplate restTemplate(){
-        return new RestTemplate();
-    }
-}
@@ -0,0 +1,36 @@
+package newsbalance.demo.Configuration;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+// @Scheduled 작업 전용 스레드 풀
+// 기본 스케줄러는 스레드가 하나라 오래 걸리는 작업 하나가 쿼터 동기화 / outbox 전송 / 채널 폴링 등 다른 주기 작업을 모두 멈추게 함
+// 오래 걸리는 처리는 각 서비스의 전용 executor 로 넘기고, 여기서는 주기 작업끼리 서로 기다리지 않도록 함
+@Configuration
+public class SchedulingConfig implements SchedulingConfigurer, DisposableBean {
+
+    private static final int POOL_SIZE = 8;
+
+    private final ThreadPoolTaskScheduler scheduler = createScheduler();
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.setTaskScheduler(scheduler);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdown();
+    }
+
+    private static ThreadPoolTaskScheduler createScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(POOL_SIZE);
+        scheduler.setThreadNamePrefix("scheduled-");
+        scheduler.initialize();
+        return scheduler;
+    }
+}
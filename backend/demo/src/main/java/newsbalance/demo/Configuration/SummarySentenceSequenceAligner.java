@@ -0,0 +1,34 @@
+package newsbalance.demo.Configuration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// summary_sentences.id 를 IDENTITY 에서 시퀀스(allocationSize 50)로 바꾸면서,
+// 시퀀스가 기존 행의 최대 ID 보다 뒤에서 시작하도록 맞춤 (이미 앞서 있으면 그대로 둠)
+// 모든 빈 생성(Hibernate 스키마 생성 포함) 직후, 웹 서버가 요청을 받기 전에 실행해 맞추기 전의 시퀀스로 INSERT 되지 않게 함
+@Slf4j
+@Component
+public class SummarySentenceSequenceAligner implements SmartInitializingSingleton {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SummarySentenceSequenceAligner(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS summary_sentences_seq START WITH 1 INCREMENT BY " + ALLOCATION_SIZE);
+        // pooled 할당은 nextval 값 아래 50개를 쓰므로 최대 ID + 50 이상이어야 기존 ID 와 겹치지 않음
+        Long value = jdbcTemplate.queryForObject(
+                "SELECT setval('summary_sentences_seq', GREATEST(" +
+                        "(SELECT COALESCE(MAX(id), 0) FROM summary_sentences) + " + ALLOCATION_SIZE + ", " +
+                        "(SELECT last_value FROM summary_sentences_seq)))",
+                Long.class);
+        log.debug("summary_sentences_seq = {}", value);
+    }
+}
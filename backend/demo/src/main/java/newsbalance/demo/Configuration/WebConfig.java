@@ -15,6 +15,7 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedOrigins("http://13.124.108.225:3000") // 프론트엔드 URL을 명시적으로 설정
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders("Location") // 202 응답의 요약 상태 조회 주소를 프론트엔드에서 읽을 수 있도록
                 .allowCredentials(true) // 자격 증명 허용
                 .maxAge(3600); // Pre-flight 요청 캐시 시간 (1시간)
     }
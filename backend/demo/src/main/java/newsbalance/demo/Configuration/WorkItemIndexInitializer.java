@@ -0,0 +1,35 @@
+package newsbalance.demo.Configuration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// 대기 / 처리 중인 작업은 (type, payload) 당 하나만 있도록 부분 unique 인덱스 생성
+// JPA 인덱스 설정으로는 WHERE 조건을 줄 수 없어 직접 생성 (Hibernate 스키마 생성 이후, 요청을 받기 전에 실행)
+// payload 는 길 수 있는 TEXT 라 md5 로 인덱싱
+@Slf4j
+@Component
+public class WorkItemIndexInitializer implements SmartInitializingSingleton {
+
+    private static final String ACTIVE = "status IN ('PENDING', 'RUNNING')";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public WorkItemIndexInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        // 인덱스 생성 전 이미 중복 등록된 항목은 가장 먼저 등록된 것만 남김
+        int merged = jdbcTemplate.update("UPDATE work_items w SET status = 'DONE' WHERE w." + ACTIVE + " " +
+                "AND EXISTS (SELECT 1 FROM work_items o WHERE o.type = w.type AND o.payload = w.payload " +
+                "AND o." + ACTIVE + " AND o.id < w.id)");
+        if (merged > 0) {
+            log.info("중복 등록된 재시도 작업 {}건 정리", merged);
+        }
+        jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS uq_work_items_active " +
+                "ON work_items (type, md5(payload)) WHERE " + ACTIVE);
+    }
+}
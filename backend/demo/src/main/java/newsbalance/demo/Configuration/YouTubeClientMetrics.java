@@ -0,0 +1,72 @@
+package newsbalance.demo.Configuration;
+
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.SocketAddress;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// YouTube 공용 커넥션 풀 상태와 요청 전송 지연 시간 집계
+// 전송 지연 = 구독부터 요청을 보내기 직전까지 (풀 대기 + 새 커넥션의 DNS / 연결 / TLS)
+public class YouTubeClientMetrics implements ConnectionProvider.MeterRegistrar {
+
+    // 요청 구독 시각(nanoTime)을 Reactor Context 에 담을 때 사용하는 키
+    public static final String REQUEST_START = YouTubeClientMetrics.class.getName() + ".start";
+
+    private final Map<String, ConnectionPoolMetrics> pools = new ConcurrentHashMap<>();
+
+    private final AtomicLong dispatchCount = new AtomicLong();
+    private final AtomicLong dispatchNanosTotal = new AtomicLong();
+    private final AtomicLong dispatchNanosMax = new AtomicLong();
+
+    @Override
+    public void registerMetrics(String poolName, String id, SocketAddress remoteAddress, ConnectionPoolMetrics metrics) {
+        pools.put(remoteAddress.toString(), metrics);
+    }
+
+    @Override
+    public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+        pools.remove(remoteAddress.toString());
+    }
+
+    public void recordDispatch(long nanos) {
+        dispatchCount.incrementAndGet();
+        dispatchNanosTotal.addAndGet(nanos);
+        dispatchNanosMax.accumulateAndGet(nanos, Math::max);
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        int active = 0;
+        int idle = 0;
+        int pending = 0;
+        Map<String, Object> byRemote = new LinkedHashMap<>();
+        for (Map.Entry<String, ConnectionPoolMetrics> entry : pools.entrySet()) {
+            ConnectionPoolMetrics metrics = entry.getValue();
+            active += metrics.acquiredSize();
+            idle += metrics.idleSize();
+            pending += metrics.pendingAcquireSize();
+
+            Map<String, Integer> pool = new LinkedHashMap<>();
+            pool.put("active", metrics.acquiredSize());
+            pool.put("idle", metrics.idleSize());
+            pool.put("allocated", metrics.allocatedSize());
+            pool.put("pendingAcquires", metrics.pendingAcquireSize());
+            pool.put("maxAllocated", metrics.maxAllocatedSize());
+            byRemote.put(entry.getKey(), pool);
+        }
+        stats.put("activeConnections", active);
+        stats.put("idleConnections", idle);
+        stats.put("pendingAcquires", pending);
+
+        long count = dispatchCount.get();
+        stats.put("dispatchCount", count);
+        stats.put("dispatchAvgMillis", count == 0 ? 0.0 : dispatchNanosTotal.get() / (double) count / 1_000_000);
+        stats.put("dispatchMaxMillis", dispatchNanosMax.get() / 1_000_000.0);
+        stats.put("pools", byRemote);
+        return stats;
+    }
+}
@@ -3,6 +3,7 @@ package newsbalance.demo.Configuration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
 import java.util.List;
 
 @Configuration
@@ -10,6 +11,43 @@ import java.util.List;
 public class YouTubeConfig {
     private String apiKey;
     private List<String> channelIds;
+    // 채널 동시 수집 개수 상한
+    private int fetchConcurrency = 8;
+    // 채널 / 키워드 수집 시 따라갈 최대 페이지 수 (페이지당 search 100 quota, 1 미만으로 설정해도 1페이지)
+    private int channelPageBudget = 10;
+    private int keywordPageBudget = 1;
+    // 키워드 수집 요청의 pages 파라미터 상한 (사용자 요청 하나가 쿼터를 다 쓰지 않도록)
+    private int maxKeywordPages = 3;
+    // 워터마크가 없는 채널의 최초 수집 범위
+    private Duration initialLookback = Duration.ofDays(90);
+    // 늦게 색인되는 영상을 놓치지 않도록 워터마크보다 앞당겨 조회하는 구간
+    private Duration watermarkOverlap = Duration.ofHours(6);
+    // 같은 영상에 대한 푸시 알림을 하나로 합치는 대기 구간
+    private Duration pushCoalesceWindow = Duration.ofSeconds(30);
+    // 허브 구독 시 hub.secret 으로 넘긴 값 (설정하면 푸시 알림의 X-Hub-Signature 를 검증하고, 맞지 않는 알림은 버림)
+    private String pushSecret;
+    // 하루 쿼터 예산과, 그중 수동(사용자) 요청용으로 남겨두는 양
+    private long dailyQuota = 10_000;
+    private long interactiveQuotaReserve = 2_000;
+    // 자막 수집 작업자 수 / 대기열 크기 / 자막 언어
+    private int captionWorkers = 2;
+    private int captionQueueCapacity = 500;
+    private String captionLanguage = "ko";
+    // 채널별 업로드 빈도에 맞춘 적응형 수집 (끄면 매일 1시 일괄 수집)
+    private boolean adaptivePolling = true;
+    // 채널별 수집 간격의 하한 / 상한
+    private Duration minPollInterval = Duration.ofMinutes(10);
+    private Duration maxPollInterval = Duration.ofHours(24);
+    // 업로드 빈도를 계산할 최근 영상 기간
+    private Duration uploadRateWindow = Duration.ofDays(14);
+    // 백그라운드 쿼터(dailyQuota - interactiveQuotaReserve) 중 채널 수집에 쓰는 비율
+    private double pollQuotaShare = 0.75;
+    // 조회수 / 좋아요 수를 주기적으로 다시 조회할 최근 영상 범위
+    private Duration statsRefreshWindow = Duration.ofDays(7);
+    // YouTube 호출용 공용 HTTP 클라이언트 설정
+    private Http http = new Http();
+    // YouTube 응답 캐시 설정
+    private Cache cache = new Cache();
 
     public String getApiKey() {
         return apiKey;
@@ -19,6 +57,14 @@ public class YouTubeConfig {
         this.apiKey = apiKey;
     }
 
+    public String getPushSecret() {
+        return pushSecret;
+    }
+
+    public void setPushSecret(String pushSecret) {
+        this.pushSecret = pushSecret;
+    }
+
     public List<String> getChannelIds() {
         return channelIds;
     }
@@ -26,4 +72,300 @@ public class YouTubeConfig {
     public void setChannelIds(List<String> channelIds) {
         this.channelIds = channelIds;
     }
+
+    public int getFetchConcurrency() {
+        return fetchConcurrency;
+    }
+
+    public void setFetchConcurrency(int fetchConcurrency) {
+        this.fetchConcurrency = fetchConcurrency;
+    }
+
+    public int getChannelPageBudget() {
+        return channelPageBudget;
+    }
+
+    public void setChannelPageBudget(int channelPageBudget) {
+        this.channelPageBudget = channelPageBudget;
+    }
+
+    public int getMaxKeywordPages() {
+        return maxKeywordPages;
+    }
+
+    public void setMaxKeywordPages(int maxKeywordPages) {
+        this.maxKeywordPages = maxKeywordPages;
+    }
+
+    public int getKeywordPageBudget() {
+        return keywordPageBudget;
+    }
+
+    public void setKeywordPageBudget(int keywordPageBudget) {
+        this.keywordPageBudget = keywordPageBudget;
+    }
+
+    public Duration getInitialLookback() {
+        return initialLookback;
+    }
+
+    public void setInitialLookback(Duration initialLookback) {
+        this.initialLookback = initialLookback;
+    }
+
+    public Duration getWatermarkOverlap() {
+        return watermarkOverlap;
+    }
+
+    public void setWatermarkOverlap(Duration watermarkOverlap) {
+        this.watermarkOverlap = watermarkOverlap;
+    }
+
+    public Duration getPushCoalesceWindow() {
+        return pushCoalesceWindow;
+    }
+
+    public void setPushCoalesceWindow(Duration pushCoalesceWindow) {
+        this.pushCoalesceWindow = pushCoalesceWindow;
+    }
+
+    public long getDailyQuota() {
+        return dailyQuota;
+    }
+
+    public void setDailyQuota(long dailyQuota) {
+        this.dailyQuota = dailyQuota;
+    }
+
+    public long getInteractiveQuotaReserve() {
+        return interactiveQuotaReserve;
+    }
+
+    public void setInteractiveQuotaReserve(long interactiveQuotaReserve) {
+        this.interactiveQuotaReserve = interactiveQuotaReserve;
+    }
+
+    public int getCaptionWorkers() {
+        return captionWorkers;
+    }
+
+    public void setCaptionWorkers(int captionWorkers) {
+        this.captionWorkers = captionWorkers;
+    }
+
+    public int getCaptionQueueCapacity() {
+        return captionQueueCapacity;
+    }
+
+    public void setCaptionQueueCapacity(int captionQueueCapacity) {
+        this.captionQueueCapacity = captionQueueCapacity;
+    }
+
+    public String getCaptionLanguage() {
+        return captionLanguage;
+    }
+
+    public void setCaptionLanguage(String captionLanguage) {
+        this.captionLanguage = captionLanguage;
+    }
+
+    public boolean isAdaptivePolling() {
+        return adaptivePolling;
+    }
+
+    public void setAdaptivePolling(boolean adaptivePolling) {
+        this.adaptivePolling = adaptivePolling;
+    }
+
+    public Duration getMinPollInterval() {
+        return minPollInterval;
+    }
+
+    public void setMinPollInterval(Duration minPollInterval) {
+        this.minPollInterval = minPollInterval;
+    }
+
+    public Duration getMaxPollInterval() {
+        return maxPollInterval;
+    }
+
+    public void setMaxPollInterval(Duration maxPollInterval) {
+        this.maxPollInterval = maxPollInterval;
+    }
+
+    public Duration getUploadRateWindow() {
+        return uploadRateWindow;
+    }
+
+    public void setUploadRateWindow(Duration uploadRateWindow) {
+        this.uploadRateWindow = uploadRateWindow;
+    }
+
+    public double getPollQuotaShare() {
+        return pollQuotaShare;
+    }
+
+    public void setPollQuotaShare(double pollQuotaShare) {
+        this.pollQuotaShare = pollQuotaShare;
+    }
+
+    public Duration getStatsRefreshWindow() {
+        return statsRefreshWindow;
+    }
+
+    public void setStatsRefreshWindow(Duration statsRefreshWindow) {
+        this.statsRefreshWindow = statsRefreshWindow;
+    }
+
+    public Http getHttp() {
+        return http;
+    }
+
+    public void setHttp(Http http) {
+        this.http = http;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public void setCache(Cache cache) {
+        this.cache = cache;
+    }
+
+    public static class Http {
+        private int maxConnections = 50;
+        private int pendingAcquireMaxCount = 500;
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(10);
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private Duration connectTimeout = Duration.ofSeconds(5);
+        private Duration readTimeout = Duration.ofSeconds(15);
+        // 응답 본문 최대 크기 (bytes)
+        private int maxResponseSize = 4 * 1024 * 1024;
+        private boolean http2 = true;
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public int getPendingAcquireMaxCount() {
+            return pendingAcquireMaxCount;
+        }
+
+        public void setPendingAcquireMaxCount(int pendingAcquireMaxCount) {
+            this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+        }
+
+        public Duration getPendingAcquireTimeout() {
+            return pendingAcquireTimeout;
+        }
+
+        public void setPendingAcquireTimeout(Duration pendingAcquireTimeout) {
+            this.pendingAcquireTimeout = pendingAcquireTimeout;
+        }
+
+        public Duration getMaxIdleTime() {
+            return maxIdleTime;
+        }
+
+        public void setMaxIdleTime(Duration maxIdleTime) {
+            this.maxIdleTime = maxIdleTime;
+        }
+
+        public Duration getConnectTimeout() {
+            return connectTimeout;
+        }
+
+        public void setConnectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+        }
+
+        public Duration getReadTimeout() {
+            return readTimeout;
+        }
+
+        public void setReadTimeout(Duration readTimeout) {
+            this.readTimeout = readTimeout;
+        }
+
+        public int getMaxResponseSize() {
+            return maxResponseSize;
+        }
+
+        public void setMaxResponseSize(int maxResponseSize) {
+            this.maxResponseSize = maxResponseSize;
+        }
+
+        public boolean isHttp2() {
+            return http2;
+        }
+
+        public void setHttp2(boolean http2) {
+            this.http2 = http2;
+        }
+    }
+
+    public static class Cache {
+        // OFF: 메모리 캐시만 사용, RECORD: 응답을 디스크에도 기록, REPLAY: 디스크 응답만 사용 (네트워크 호출 없음)
+        public enum Mode { OFF, RECORD, REPLAY }
+
+        private boolean enabled = true;
+        private int maxEntries = 1000;
+        private Duration searchTtl = Duration.ofMinutes(10);
+        private Duration videosTtl = Duration.ofMinutes(2);
+        private Mode mode = Mode.OFF;
+        private String directory = "youtube-cache";
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public Duration getSearchTtl() {
+            return searchTtl;
+        }
+
+        public void setSearchTtl(Duration searchTtl) {
+            this.searchTtl = searchTtl;
+        }
+
+        public Duration getVideosTtl() {
+            return videosTtl;
+        }
+
+        public void setVideosTtl(Duration videosTtl) {
+            this.videosTtl = videosTtl;
+        }
+
+        public Mode getMode() {
+            return mode;
+        }
+
+        public void setMode(Mode mode) {
+            this.mode = mode;
+        }
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+    }
 }
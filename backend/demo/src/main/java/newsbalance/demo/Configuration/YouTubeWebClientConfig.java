@@ -0,0 +1,67 @@
+package newsbalance.demo.Configuration;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+// 모든 YouTube 호출이 공유하는 WebClient (커넥션 풀 / keep-alive 재사용, gzip, 타임아웃, 응답 크기 제한)
+@Configuration
+public class YouTubeWebClientConfig {
+
+    @Bean
+    public YouTubeClientMetrics youTubeClientMetrics() {
+        return new YouTubeClientMetrics();
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider youtubeConnectionProvider(YouTubeConfig config, YouTubeClientMetrics metrics) {
+        YouTubeConfig.Http http = config.getHttp();
+        return ConnectionProvider.builder("youtube")
+                .maxConnections(http.getMaxConnections())
+                .pendingAcquireMaxCount(http.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(http.getPendingAcquireTimeout())
+                .maxIdleTime(http.getMaxIdleTime())
+                .metrics(true, () -> metrics)
+                .build();
+    }
+
+    @Bean
+    public WebClient youtubeWebClient(YouTubeConfig config,
+                                      ConnectionProvider youtubeConnectionProvider,
+                                      YouTubeClientMetrics metrics) {
+        YouTubeConfig.Http http = config.getHttp();
+
+        HttpClient httpClient = HttpClient.create(youtubeConnectionProvider)
+                .protocol(http.isHttp2()
+                        ? new HttpProtocol[]{HttpProtocol.H2, HttpProtocol.HTTP11}
+                        : new HttpProtocol[]{HttpProtocol.HTTP11})
+                .secure()
+                .compress(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) http.getConnectTimeout().toMillis())
+                // 요청 단위 응답 대기 시간 (커넥션에 ReadTimeoutHandler 를 따로 달면 풀에서 쉬는 커넥션까지 끊기므로 사용하지 않음)
+                .responseTimeout(http.getReadTimeout())
+                // 요청 구독 시점부터 요청을 보내기 직전까지의 시간
+                // 풀 대기뿐 아니라 새 커넥션이면 DNS / 연결 / TLS 시간도 포함 (순수 풀 대기는 pendingAcquires 로 확인)
+                .doOnRequest((request, conn) -> {
+                    Long start = request.currentContextView().getOrDefault(YouTubeClientMetrics.REQUEST_START, null);
+                    if (start != null) {
+                        metrics.recordDispatch(System.nanoTime() - start);
+                    }
+                });
+
+        ExchangeStrategies strategies = ExchangeStrategies.builder()
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(http.getMaxResponseSize()))
+                .build();
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .exchangeStrategies(strategies)
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package newsbalance.demo.Configuration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 영상 URL 당 분석 결과가 한 행만 있도록 youtube_contents.video_url 에 unique 인덱스 생성
+// 강제 재분석이 새 행을 추가하던 시기의 중복은 가장 최근 결과만 남기고 삭제
+// (삭제한 행은 search_outbox 에 남겨 SearchOutboxRelay 가 Elasticsearch 문서도 지우도록 함)
+// Hibernate 스키마 생성 이후, 요청을 받기 전에 실행
+@Slf4j
+@Component
+public class YoutubeContentUrlIndexInitializer implements SmartInitializingSingleton {
+
+    private static final String DUPLICATE_IDS = "SELECT c.id FROM youtube_contents c WHERE EXISTS " +
+            "(SELECT 1 FROM youtube_contents n WHERE n.video_url = c.video_url AND n.id > c.id)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public YoutubeContentUrlIndexInitializer(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Integer removed = transactionTemplate.execute(status -> {
+            jdbcTemplate.update("INSERT INTO search_outbox (document_id, attempts, next_attempt_at, created_at) " +
+                    "SELECT id, 0, now(), now() FROM (" + DUPLICATE_IDS + ") d");
+            jdbcTemplate.update("DELETE FROM summary_sentences WHERE video_summary_id IN (" + DUPLICATE_IDS + ")");
+            jdbcTemplate.update("DELETE FROM related_articles WHERE youtube_content_id IN (" + DUPLICATE_IDS + ")");
+            jdbcTemplate.update("DELETE FROM youtube_keywords WHERE youtube_content_id IN (" + DUPLICATE_IDS + ")");
+            int deleted = jdbcTemplate.update("DELETE FROM youtube_contents WHERE id IN (" + DUPLICATE_IDS + ")");
+            // 이전의 non-unique 인덱스는 unique 인덱스와 겹치므로 삭제
+            jdbcTemplate.execute("DROP INDEX IF EXISTS idx_youtube_contents_video_url");
+            jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS uq_youtube_contents_video_url " +
+                    "ON youtube_contents (video_url)");
+            return deleted;
+        });
+        if (removed != null && removed > 0) {
+            log.info("같은 영상 URL 의 중복 분석 결과 {}건 정리", removed);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package newsbalance.demo.Controller;
+
+import newsbalance.demo.DTO.Response.AnalysisJobStatus;
+import newsbalance.demo.Service.AnalysisJobService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// 일괄 분석 작업 상태 조회 / 취소
+@RestController
+@RequestMapping("/api/jobs")
+public class AnalysisJobController {
+
+    private final AnalysisJobService analysisJobService;
+
+    public AnalysisJobController(AnalysisJobService analysisJobService) {
+        this.analysisJobService = analysisJobService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<AnalysisJobStatus>> jobs() {
+        return ResponseEntity.ok(analysisJobService.getJobs());
+    }
+
+    // 진행률 / 처리량(건/분) / 남은 시간(초) / 최근 실패 목록
+    @GetMapping("/{jobId}")
+    public ResponseEntity<AnalysisJobStatus> status(@PathVariable String jobId) {
+        return analysisJobService.getStatus(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/{jobId}")
+    public ResponseEntity<Void> cancel(@PathVariable String jobId) {
+        return analysisJobService.cancel(jobId)
+                ? ResponseEntity.accepted().build()
+                : ResponseEntity.notFound().build();
+    }
+}
@@ -2,18 +2,22 @@ package newsbalance.demo.Controller;
 
 import lombok.RequiredArgsConstructor;
 import newsbalance.demo.DTO.Request.URLDTO;
-import newsbalance.demo.DTO.UrlContentRequestDTO;
-import newsbalance.demo.Entity.VideoInfo;
+import newsbalance.demo.DTO.Response.AnalysisJobStatus;
 import newsbalance.demo.Entity.YoutubeContent;
-import newsbalance.demo.Service.YouTubeService;
+import newsbalance.demo.Service.AnalysisClient;
+import newsbalance.demo.Service.AnalysisJobService;
+import newsbalance.demo.Service.AnalysisUnavailableException;
+import newsbalance.demo.Service.TranscriptDedupService;
+import newsbalance.demo.Service.VideoAnalysisService;
 import newsbalance.demo.Service.YoutubeContentService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.client.RestTemplate;
-import newsbalance.demo.DTO.Request.YoutubeContentRequestDTO;
 
+import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.*;
 
 @RestController
@@ -22,46 +26,46 @@ import java.util.*;
 public class ApiController {
 
     @Autowired
-    private YoutubeContentService youtubeContentService;
+    private VideoAnalysisService videoAnalysisService;
+
     @Autowired
-    private YouTubeService youTubeService;
+    private AnalysisJobService analysisJobService;
 
     @Autowired
-    private RestTemplate restTemplate;
+    private AnalysisClient analysisClient;
 
-    @PostMapping("/debug/getdata")
-    public ResponseEntity<?> debugSummarize(@RequestBody URLDTO urlDTO) {
-        if(youtubeContentService.getYoutubecontent(urlDTO.getUrl()).isPresent()){
-            Optional<YoutubeContent> Info = youtubeContentService.getYoutubecontent(urlDTO.getUrl());
-            return ResponseEntity.ok(Info);
-        }
+    @Autowired
+    private YoutubeContentService youtubeContentService;
 
-        Map<String, String> request = new HashMap<>();
-        request.put("url", urlDTO.getUrl());
+    @Autowired
+    private TranscriptDedupService transcriptDedupService;
 
+    // 같은 영상에 대한 동시 요청은 분석 서버 호출을 한 번만 함 (VideoAnalysisService.analyzeUrl)
+    @PostMapping("/debug/getdata")
+    public ResponseEntity<?> debugSummarize(@RequestBody URLDTO urlDTO) {
         try {
-            // Python 서버로 POST 요청 (응답을 Map 형태로 받음)
-            ResponseEntity<UrlContentRequestDTO> response =
-                    restTemplate.postForEntity(
-                            "http://host.docker.internal:8000/summarize",
-                            request,
-                            UrlContentRequestDTO.class
-                    );
-
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                youtubeContentService.saveUrlContent(response.getBody());
-            } else {
-                System.err.println("파이썬 서버 오류: " + request);
-
-            }
+            Optional<YoutubeContent> Info = videoAnalysisService.analyzeUrl(urlDTO.getUrl());
+            return ResponseEntity.ok(Info);
+        } catch (AnalysisUnavailableException e) {
+            // 분석 서버 장애 시 타임아웃까지 붙잡지 않고 바로 503
+            return ResponseEntity
+                    .status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Collections.singletonMap("error", "분석 서버가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해 주세요."));
         } catch (Exception e) {
             // 예외 발생 시 에러 메시지와 함께 500 리턴
             return ResponseEntity
                     .status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Collections.singletonMap("error", e.getMessage()));
         }
-        Optional<YoutubeContent> Info = youtubeContentService.getYoutubecontent(urlDTO.getUrl());
-        return ResponseEntity.ok(Info);
+    }
+
+    // 분석 서버 서킷 브레이커 / 커넥션 풀 상태, 분석 결과 캐시 적중률, 자막 중복 재사용 건수
+    @GetMapping("/analysis/stats")
+    public ResponseEntity<Map<String, Object>> analysisStats() {
+        Map<String, Object> stats = new LinkedHashMap<>(analysisClient.getStats());
+        stats.put("contentCache", youtubeContentService.getCacheStats());
+        stats.put("transcriptDedup", transcriptDedupService.getStats());
+        return ResponseEntity.ok(stats);
     }
 
     @PostMapping("/dockertest")
@@ -72,39 +76,21 @@ public class ApiController {
 
 
 
-    // 기존 단일 URL 처리 엔드포인트는 그대로 두고,
-    // 모든 URL을 한 번에 처리하는 엔드포인트를 추가
+    // 아직 분석하지 않은 영상 분석을 백그라운드 작업으로 등록하고 작업 ID 를 바로 반환
+    // force=true 면 이미 분석한 영상도 다시 분석, since(UTC, 예: 2025-05-01T00:00:00)가 있으면 그 이후 게시된 영상만
+    // 진행 상황은 GET /api/jobs/{jobId} 또는 /topic/jobs/{jobId} 구독으로 확인
     @PostMapping("/process-all")
-    public ResponseEntity<String> processAllYoutubeUrls() {
-        // 1) DB에서 URL 리스트 조회
-        List<VideoInfo> videoInfos = youTubeService.getAllVideoInfo();
-
-        // 2) 각 URL마다 Python 서버에 POST 요청
-        for (VideoInfo info : videoInfos) {
-            Map<String, String> request = new HashMap<>();
-            request.put("url", info.videoUrl());
-
-
-            try {
-                ResponseEntity<YoutubeContentRequestDTO> response =
-                        restTemplate.postForEntity(
-                                "http://host.docker.internal:8000/summarize",
-                                request,
-                                YoutubeContentRequestDTO.class
-                        );
-
-                if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                    youtubeContentService.saveContent(response.getBody(), info.title(), info.publishedAt());
-                } else {
-                    // 로그 남기거나, 실패 URL 리스트에 추가
-                    System.err.println("파이썬 서버 오류: " + info.videoUrl());
-                }
-            } catch (Exception e) {
-                // 예외 발생 시 로그
-                System.err.println("처리 중 예외 발생: " + info.videoUrl() + " / " + e.getMessage());
-            }
+    public ResponseEntity<AnalysisJobStatus> processAllYoutubeUrls(
+            @RequestParam(required = false) Integer parallelism,
+            @RequestParam(defaultValue = "false") boolean force,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+        Optional<AnalysisJobStatus> running = analysisJobService.findActive();
+        if (running.isPresent()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(running.get());
         }
-
-        return ResponseEntity.ok("모든 URL 처리 완료");
+        AnalysisJobStatus job = analysisJobService.submit(parallelism, force, since);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/jobs/" + job.jobId()))
+                .body(job);
     }
 }
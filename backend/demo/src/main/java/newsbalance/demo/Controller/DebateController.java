@@ -10,18 +10,17 @@ import newsbalance.demo.Entity.VideoInfo;
 import newsbalance.demo.Service.DebateMessageService;
 import newsbalance.demo.Service.DebateRoomService;
 import newsbalance.demo.Service.DebateService;
+import newsbalance.demo.Service.DebateSummaryService;
 import newsbalance.demo.Service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.*;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.*;
 import newsbalance.demo.Entity.Message;
-import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequestMapping("/api")
@@ -43,7 +42,7 @@ public class DebateController {
     private DebateMessageService debateMessageService;
 
     @Autowired
-    private RestTemplate restTemplate;
+    private DebateSummaryService debateSummaryService;
 
 
     private String getNicknameFromSession(HttpServletRequest request) {
@@ -198,37 +197,37 @@ public class DebateController {
     }
 
     // 토론 요약
+    // 같은 발언의 요약이 캐시에 있으면 바로 200, 없으면 요약을 한 번만 시작하고 202 (작업 핸들)
+    // 결과는 /topic/summary/{roomId} 로 전송되며, 웹소켓을 못 쓰는 경우 Location 의 상태 조회로 확인
+    // 분석 서버가 느리거나 장애면 대체 응답(503)을 돌려줌
     @PostMapping("/debate/summary")
-    public ResponseEntity<SummarizeMessageResponseDTO> getDebateSummary(@RequestBody SummarizeMessageRequestDTO requestDTO) {
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            // Map으로 변환
-            Map<String, Object> requestMap = new HashMap<>();
-            requestMap.put("roomId", requestDTO.getRoomId());
-            requestMap.put("messages", requestDTO.getMessages());
-
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestMap, headers);
-
-            ResponseEntity<SummarizeMessageResponseDTO> response = restTemplate.postForEntity(
-                    "http://flask-app:5000/debate/summarize",
-                    entity,
-                    SummarizeMessageResponseDTO.class
-            );
-
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                SummarizeMessageResponseDTO body = response.getBody();
-                body.setRoomId(requestDTO.getRoomId());
-                return ResponseEntity.ok(body);
-            } else {
-                System.err.println("Flask 서버 오류: 상태 코드 " + response.getStatusCode());
-                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-            }
+    public ResponseEntity<?> getDebateSummary(@RequestBody SummarizeMessageRequestDTO requestDTO) {
+        return toResponse(debateSummaryService.request(requestDTO));
+    }
 
-        } catch (Exception e) {
-            System.err.println("Flask 통신 중 예외 발생: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    // 토론 요약 작업 상태 조회
+    @GetMapping("/debate/summary/{roomId}/{key}")
+    public ResponseEntity<?> getDebateSummaryStatus(@PathVariable Long roomId, @PathVariable String key) {
+        DebateSummaryEvent status = debateSummaryService.getStatus(roomId, key);
+        if (status == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return toResponse(status);
+    }
+
+    private ResponseEntity<?> toResponse(DebateSummaryEvent status) {
+        switch (status.getStatus()) {
+            case COMPLETED:
+                return ResponseEntity.ok(status.getSummary());
+            case PENDING:
+                return ResponseEntity.accepted()
+                        .location(URI.create("/api/debate/summary/" + status.getRoomId() + "/" + status.getKey()))
+                        .body(status);
+            default:
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .body(new SummarizeMessageResponseDTO(status.getRoomId(),
+                                "요약 서버가 일시적으로 응답하지 않아 요약을 만들지 못했습니다.",
+                                List.of(), List.of()));
         }
     }
 }
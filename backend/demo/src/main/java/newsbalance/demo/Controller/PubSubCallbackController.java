@@ -1,18 +1,30 @@
 package newsbalance.demo.Controller;
 
-import newsbalance.demo.Service.YouTubeService;
+import lombok.extern.slf4j.Slf4j;
+import newsbalance.demo.Configuration.YouTubeConfig;
+import newsbalance.demo.DTO.FeedEntry;
+import newsbalance.demo.Service.HubSignature;
+import newsbalance.demo.Service.PubSubNotificationService;
+import newsbalance.demo.Service.YouTubeFeedParser;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import javax.xml.stream.XMLStreamException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@Slf4j
 @RestController
 @RequestMapping("/youtube/callback")
 public class PubSubCallbackController {
     // PubSubHubbub 웹훅 컨트롤러 (유튜브 푸시 알림 처리)
 
-    private final YouTubeService youtubeService;
+    private final PubSubNotificationService notificationService;
+    private final YouTubeConfig config;
 
-    public PubSubCallbackController(YouTubeService youtubeService) {
-        this.youtubeService = youtubeService;
+    public PubSubCallbackController(PubSubNotificationService notificationService, YouTubeConfig config) {
+        this.notificationService = notificationService;
+        this.config = config;
     }
 
     @GetMapping
@@ -24,10 +36,26 @@ public class PubSubCallbackController {
         return ResponseEntity.badRequest().build();
     }
 
+    // 서명은 본문 원본 바이트로 계산되므로 문자열로 바꾸기 전에 검증
+    // 서명이 맞지 않는 알림도 WebSub 규약대로 200 으로 응답하고 내용만 버림
     @PostMapping
-    public ResponseEntity<Void> handleNotification(@RequestBody String feedXml) {
-        // 알림이 오면 다시 fetchRecentVideos 실행
-        youtubeService.fetchRecentVideos();
+    public ResponseEntity<Void> handleNotification(@RequestBody byte[] body,
+                                                   @RequestHeader(value = "X-Hub-Signature", required = false)
+                                                   String signature) {
+        String secret = config.getPushSecret();
+        if (secret != null && !secret.isEmpty() && !HubSignature.matches(secret, body, signature)) {
+            log.warn("푸시 알림 서명 불일치로 무시 (X-Hub-Signature: {})", signature);
+            return ResponseEntity.ok().build();
+        }
+
+        // 알림에 포함된 영상만 비동기로 수집하고 즉시 응답
+        try {
+            List<FeedEntry> entries = YouTubeFeedParser.parse(new String(body, StandardCharsets.UTF_8));
+            notificationService.submit(entries);
+        } catch (XMLStreamException e) {
+            // 잘못된 페이로드는 허브가 재전송해도 같으므로 200 으로 응답하고 로그만 남김
+            log.warn("푸시 알림 파싱 실패: {}", e.getMessage());
+        }
         return ResponseEntity.ok().build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,40 @@
+package newsbalance.demo.Controller;
+
+import newsbalance.demo.Entity.WorkItem;
+import newsbalance.demo.Service.WorkItemService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+// 재시도 작업 큐 조회 / dead-letter 재처리
+@RestController
+@RequestMapping("/api/work-items")
+public class WorkItemController {
+
+    private final WorkItemService workItemService;
+
+    public WorkItemController(WorkItemService workItemService) {
+        this.workItemService = workItemService;
+    }
+
+    // 상태별 건수
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Long>> stats() {
+        return ResponseEntity.ok(workItemService.getStats());
+    }
+
+    // 최대 재시도를 넘긴 항목
+    @GetMapping("/dead")
+    public ResponseEntity<List<WorkItem>> deadItems(@RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(workItemService.getDeadItems(limit));
+    }
+
+    @PostMapping("/{id}/retry")
+    public ResponseEntity<Void> retry(@PathVariable Long id) {
+        return workItemService.requeue(id)
+                ? ResponseEntity.ok().build()
+                : ResponseEntity.notFound().build();
+    }
+}
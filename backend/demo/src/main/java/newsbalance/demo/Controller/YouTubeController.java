@@ -1,17 +1,39 @@
 package newsbalance.demo.Controller;
 
+import newsbalance.demo.Configuration.YouTubeClientMetrics;
+import newsbalance.demo.Configuration.YouTubeConfig;
+import newsbalance.demo.Service.AdaptiveChannelPoller;
+import newsbalance.demo.Service.PubSubNotificationService;
+import newsbalance.demo.Service.YouTubeApiGateway;
 import newsbalance.demo.Service.YouTubeService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/youtube")
 public class YouTubeController {
 
     private final YouTubeService youtubeService;
+    private final PubSubNotificationService notificationService;
+    private final YouTubeApiGateway apiGateway;
+    private final YouTubeClientMetrics clientMetrics;
+    private final AdaptiveChannelPoller channelPoller;
+    private final YouTubeConfig youTubeConfig;
 
-    public YouTubeController(YouTubeService youTubeService) {
+    public YouTubeController(YouTubeService youTubeService,
+                             PubSubNotificationService notificationService,
+                             YouTubeApiGateway apiGateway,
+                             YouTubeClientMetrics clientMetrics,
+                             AdaptiveChannelPoller channelPoller,
+                             YouTubeConfig youTubeConfig) {
         this.youtubeService = youTubeService;
+        this.notificationService = notificationService;
+        this.apiGateway = apiGateway;
+        this.clientMetrics = clientMetrics;
+        this.channelPoller = channelPoller;
+        this.youTubeConfig = youTubeConfig;
     }
 
     // 최근 영상 수집 (채널 기반) http://localhost:8080/youtube/fetch/recent
@@ -22,9 +44,18 @@ public class YouTubeController {
     }
 
     // 키워드 기반 영상 수집 (POST)
+    // pages 는 1 이상만 허용하고 설정된 최대 페이지 수(maxKeywordPages)로 제한 (페이지당 search 100 quota)
     @PostMapping("/fetch/keyword")
-    public String fetchByKeyword(@RequestParam String keyword) {
-        return youtubeService.fetchAndSaveVideosByKeyword(keyword);
+    public ResponseEntity<String> fetchByKeyword(@RequestParam String keyword,
+                                                 @RequestParam(required = false) Integer pages) {
+        if (pages == null) {
+            return ResponseEntity.ok(youtubeService.fetchAndSaveVideosByKeyword(keyword));
+        }
+        if (pages <= 0) {
+            return ResponseEntity.badRequest().body("pages 는 1 이상이어야 합니다.");
+        }
+        return ResponseEntity.ok(youtubeService.fetchAndSaveVideosByKeyword(keyword,
+                Math.min(pages, youTubeConfig.getMaxKeywordPages())));
     }
 
     // 키워드 기반 영상 수집 (GET) - 같은 기능 제공
@@ -33,4 +64,28 @@ public class YouTubeController {
         String result = youtubeService.fetchAndSaveVideosByKeyword(keyword);
         return ResponseEntity.ok(result);
     }
+
+    // 푸시 알림 수신 / 병합 통계
+    @GetMapping("/stats/pubsub")
+    public ResponseEntity<Map<String, Long>> pubSubStats() {
+        return ResponseEntity.ok(notificationService.getStats());
+    }
+
+    // 남은 YouTube API 쿼터 및 엔드포인트별 사용량
+    @GetMapping("/stats/quota")
+    public ResponseEntity<Map<String, Object>> quotaStats() {
+        return ResponseEntity.ok(apiGateway.getStats());
+    }
+
+    // YouTube 공용 커넥션 풀 상태 (활성 / 대기 / 요청 전송 지연)
+    @GetMapping("/stats/http")
+    public ResponseEntity<Map<String, Object>> httpStats() {
+        return ResponseEntity.ok(clientMetrics.snapshot());
+    }
+
+    // 채널별 수집 간격 / 다음 수집 시각
+    @GetMapping("/stats/polling")
+    public ResponseEntity<Map<String, Object>> pollingStats() {
+        return ResponseEntity.ok(channelPoller.getStats());
+    }
 }
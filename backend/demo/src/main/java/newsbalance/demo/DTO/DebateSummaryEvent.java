@@ -0,0 +1,20 @@
+package newsbalance.demo.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 토론 발언 요약 작업 상태 (202 응답 본문, /topic/summary/{roomId} 전송, 상태 조회 응답)
+// key 는 요약 대상 발언의 해시로, 같은 방의 다른 발언 요약과 구분하는 작업 핸들
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DebateSummaryEvent {
+
+    public enum Status {PENDING, COMPLETED, FAILED}
+
+    private Long roomId;
+    private String key;
+    private Status status;
+    private SummarizeMessageResponseDTO summary;
+}
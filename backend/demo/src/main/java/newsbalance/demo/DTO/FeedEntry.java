@@ -0,0 +1,8 @@
+package newsbalance.demo.DTO;
+
+// PubSubHubbub Atom 알림의 entry 한 건
+public record FeedEntry(
+        String videoId,
+        String channelId
+) {
+}
@@ -0,0 +1,27 @@
+package newsbalance.demo.DTO.Response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 일괄 분석 작업 진행 상황 (상태 조회 응답 / /topic/jobs/{jobId} 메시지)
+public record AnalysisJobStatus(
+        String jobId,
+        State state,
+        int parallelism,
+        int total,
+        int processed,
+        int succeeded,
+        int failed,
+        double itemsPerMinute,
+        Long etaSeconds,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        List<Failure> failures
+) {
+    public enum State {
+        QUEUED, RUNNING, COMPLETED, CANCELLED, FAILED
+    }
+
+    public record Failure(String videoUrl, String error) {
+    }
+}
@@ -0,0 +1,23 @@
+package newsbalance.demo.DTO;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import newsbalance.demo.DTO.Request.YoutubeContentRequestDTO;
+
+import java.util.List;
+
+// Flask /summarize/batch 응답 (요청한 URL 순서대로 영상별 결과 또는 오류)
+@Data
+@NoArgsConstructor
+public class SummarizeBatchResponseDTO {
+    private List<Item> results;
+
+    @Data
+    @NoArgsConstructor
+    public static class Item {
+        private String url;
+        private int status;
+        private String error;
+        private YoutubeContentRequestDTO result;
+    }
+}
@@ -0,0 +1,15 @@
+package newsbalance.demo.DTO;
+
+import java.time.LocalDateTime;
+
+// YouTube 검색 결과 한 건 (저장 전 단계에서 사용)
+public record VideoItem(
+        String videoId,
+        String channelId,
+        String title,
+        LocalDateTime publishedAt
+) {
+    public String videoUrl() {
+        return "https://www.youtube.com/watch?v=" + videoId;
+    }
+}
@@ -0,0 +1,35 @@
+package newsbalance.demo.DTO.YouTube;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import newsbalance.demo.DTO.VideoItem;
+
+import java.util.List;
+
+// search.list 응답 (id 는 {kind, videoId} 객체)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record SearchListResponse(
+        String nextPageToken,
+        List<Item> items
+) {
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Item(Id id, Snippet snippet) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Id(String videoId) {
+    }
+
+    public List<VideoItem> toVideoItems() {
+        if (items == null) {
+            return List.of();
+        }
+        return items.stream()
+                .filter(item -> item.id() != null && item.id().videoId() != null && item.snippet() != null)
+                .map(item -> new VideoItem(
+                        item.id().videoId(),
+                        item.snippet().channelId(),
+                        item.snippet().title(),
+                        item.snippet().publishedAtDateTime()))
+                .toList();
+    }
+}
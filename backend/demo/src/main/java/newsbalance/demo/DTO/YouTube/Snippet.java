@@ -0,0 +1,18 @@
+package newsbalance.demo.DTO.YouTube;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+
+// search / videos 응답 공통 snippet 중 사용하는 필드만 매핑
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record Snippet(
+        String channelId,
+        String title,
+        String publishedAt
+) {
+    public LocalDateTime publishedAtDateTime() {
+        return OffsetDateTime.parse(publishedAt).toLocalDateTime();
+    }
+}
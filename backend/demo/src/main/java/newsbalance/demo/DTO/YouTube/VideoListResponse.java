@@ -0,0 +1,53 @@
+package newsbalance.demo.DTO.YouTube;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import newsbalance.demo.DTO.VideoItem;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+// videos.list 응답 (id 는 문자열)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record VideoListResponse(
+        String nextPageToken,
+        List<Item> items
+) {
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Item(String id, Snippet snippet, Statistics statistics, ContentDetails contentDetails) {
+    }
+
+    // part=statistics (숫자가 문자열로 오며, 비공개 설정 시 likeCount 는 빠짐)
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Statistics(Long viewCount, Long likeCount) {
+    }
+
+    // part=contentDetails (duration 은 ISO 8601, 예: PT4M13S)
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record ContentDetails(String duration) {
+        public Integer durationSeconds() {
+            if (duration == null) {
+                return null;
+            }
+            try {
+                return (int) Duration.parse(duration).toSeconds();
+            } catch (DateTimeParseException e) {
+                return null;
+            }
+        }
+    }
+
+    public List<VideoItem> toVideoItems() {
+        if (items == null) {
+            return List.of();
+        }
+        return items.stream()
+                .filter(item -> item.id() != null && item.snippet() != null)
+                .map(item -> new VideoItem(
+                        item.id(),
+                        item.snippet().channelId(),
+                        item.snippet().title(),
+                        item.snippet().publishedAtDateTime()))
+                .toList();
+    }
+}
@@ -0,0 +1,33 @@
+package newsbalance.demo.Entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+// 채널별 증분 수집 기준점 (마지막으로 확인한 영상의 게시 시각과 ID)
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "channel_watermarks")
+public class ChannelWatermark {
+    @Id
+    private String channelId;
+
+    // YouTube publishedAt (UTC 기준)
+    private LocalDateTime lastPublishedAt;
+    private String lastVideoId;
+
+    // 페이지 예산에 걸려 다 조회하지 못한 구간 (gapAfter, gapBefore)
+    // 값이 있으면 다음 수집은 새 영상보다 이 구간을 먼저 이어서 조회
+    private LocalDateTime gapAfter;
+    private LocalDateTime gapBefore;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+}
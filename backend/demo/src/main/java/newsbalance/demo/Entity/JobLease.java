@@ -0,0 +1,28 @@
+package newsbalance.demo.Entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 스케줄 작업별 실행권 (여러 인스턴스 중 lease 를 가진 한 곳에서만 실행)
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "job_leases")
+public class JobLease {
+    @Id
+    @Column(name = "job_name")
+    private String jobName;
+
+    private String owner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "acquired_at")
+    private LocalDateTime acquiredAt;
+}
@@ -0,0 +1,47 @@
+package newsbalance.demo.Entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// Elasticsearch 에 반영해야 할 분석 결과 변경 (DB 저장과 같은 트랜잭션에서 기록)
+// 변경 내용 대신 문서 ID 만 남기고, relay 가 보낼 때 DB 의 현재 상태를 읽어 색인 / 삭제하므로
+// 같은 문서에 대한 항목이 여러 개거나 순서가 뒤섞여도 마지막 상태로 수렴함
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "search_outbox", indexes = {
+        @Index(name = "idx_search_outbox_next_attempt", columnList = "next_attempt_at")
+})
+public class SearchOutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // youtube_contents.id
+    @Column(name = "document_id", nullable = false)
+    private Integer documentId;
+
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+
+    private LocalDateTime createdAt;
+
+    public static SearchOutboxEvent forDocument(Integer documentId) {
+        SearchOutboxEvent event = new SearchOutboxEvent();
+        LocalDateTime now = LocalDateTime.now();
+        event.setDocumentId(documentId);
+        event.setNextAttemptAt(now);
+        event.setCreatedAt(now);
+        return event;
+    }
+}
@@ -11,8 +11,11 @@ import lombok.Setter;
 @Table(name = "summary_sentences")
 public class SummarySentence {
 
+    // IDENTITY 는 INSERT 마다 ID 를 받아와야 해서 JDBC 배치가 꺼지므로 시퀀스에서 50개씩 미리 할당
+    // (기존 IDENTITY 로 만든 행과 겹치지 않도록 시작 시 SummarySentenceSequenceAligner 가 시퀀스를 맞춤)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "summary_sentences_seq")
+    @SequenceGenerator(name = "summary_sentences_seq", sequenceName = "summary_sentences_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
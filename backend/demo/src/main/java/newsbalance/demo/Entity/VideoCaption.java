@@ -0,0 +1,41 @@
+package newsbalance.demo.Entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 영상 자막 (deflate 압축) 과 수집 시도 기록
+// 목록 조회에서 자막 바이트를 함께 읽지 않도록 youtube_videos 와 별도 테이블에 둠
+// caption_compressed 가 null 이면 아직 수집 실패 상태 (attempts / next_attempt_at 기준으로 재시도),
+// 빈 문자열을 압축한 값이면 자막 없음
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "video_captions")
+public class VideoCaption {
+    @Id
+    @Column(name = "video_id")
+    private String videoId;
+
+    @Column(name = "caption_compressed")
+    private byte[] captionCompressed;
+
+    private int attempts;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "fetched_at")
+    private LocalDateTime fetchedAt;
+
+    public String getCaption() {
+        return CaptionCodec.decompress(captionCompressed);
+    }
+}
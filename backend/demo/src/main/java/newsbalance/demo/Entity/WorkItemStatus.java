@@ -0,0 +1,8 @@
+package newsbalance.demo.Entity;
+
+public enum WorkItemStatus {
+    PENDING,   // 처리 대기 (nextAttemptAt 이후 처리)
+    RUNNING,   // 작업자가 점유 중 (lockedUntil 이 지나면 다시 점유 가능)
+    DONE,
+    DEAD       // 최대 재시도 초과
+}
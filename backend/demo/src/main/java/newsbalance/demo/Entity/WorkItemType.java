@@ -0,0 +1,8 @@
+package newsbalance.demo.Entity;
+
+// 재시도 대상 작업 종류 (payload 형식은 각 핸들러가 정의)
+public enum WorkItemType {
+    INGEST_CHANNEL,  // payload: channelId
+    INGEST_VIDEO,    // payload: videoId
+    ANALYZE_VIDEO    // payload: VideoInfo JSON
+}
@@ -0,0 +1,23 @@
+package newsbalance.demo.Entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+// YouTube API 쿼터 일자(태평양 시간 자정 기준)별 사용량
+// 재시작 / 재배포 후에도 그날 이미 쓴 만큼은 남은 쿼터에서 빼고 시작 (여러 인스턴스의 사용량도 합산)
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "youtube_quota_usage")
+public class YouTubeQuotaUsage {
+    @Id
+    @Column(name = "quota_day")
+    private LocalDate quotaDay;
+
+    private long units;
+}
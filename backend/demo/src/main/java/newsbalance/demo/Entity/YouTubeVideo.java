@@ -3,6 +3,7 @@ package newsbalance.demo.Entity;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 
 import java.time.LocalDateTime;
@@ -10,16 +11,63 @@ import java.time.LocalDateTime;
 @Data
 @Entity
 @NoArgsConstructor
-@Table(name = "youtube_videos")
-public class YouTubeVideo {
+@Table(name = "youtube_videos",
+        indexes = {
+                @Index(name = "idx_youtube_videos_channel_published", columnList = "channel_id, published_at"),
+                @Index(name = "idx_youtube_videos_simhash_band0", columnList = "simhash_band0"),
+                @Index(name = "idx_youtube_videos_simhash_band1", columnList = "simhash_band1"),
+                @Index(name = "idx_youtube_videos_simhash_band2", columnList = "simhash_band2"),
+                @Index(name = "idx_youtube_videos_simhash_band3", columnList = "simhash_band3")
+        })
+public class YouTubeVideo implements Persistable<String> {
     // PostgreSQL에 저장될 유튜브 영상 정보
     @Id
     private String videoId;
 
+    // 채널별 업로드 빈도 계산용
+    @Column(name = "channel_id")
+    private String channelId;
+
     private String title;
     private LocalDateTime publishedAt;
     private String videoUrl;
 
-    @Column(columnDefinition = "TEXT")
-    private String caption;
-}
\ No newline at end of file
+    // videos.list 로 주기적으로 갱신하는 통계 (랭킹용)
+    private Long viewCount;
+    private Long likeCount;
+    private Integer durationSeconds;
+    private LocalDateTime statsUpdatedAt;
+
+    // 자막 본문은 video_captions 테이블 (VideoCaption) 에 따로 저장
+
+    // 자막 SimHash 와 16비트씩 나눈 band (재업로드 등 자막이 거의 같은 영상 후보 조회용, TranscriptFingerprint 참고)
+    @Column(name = "caption_simhash")
+    private Long captionSimhash;
+    @Column(name = "simhash_band0")
+    private Integer simhashBand0;
+    @Column(name = "simhash_band1")
+    private Integer simhashBand1;
+    @Column(name = "simhash_band2")
+    private Integer simhashBand2;
+    @Column(name = "simhash_band3")
+    private Integer simhashBand3;
+
+    // ID를 직접 지정하는 엔티티라 saveAll 시 merge(SELECT) 대신 persist 되도록 신규 여부를 직접 관리
+    private transient boolean isNew = true;
+
+    @Override
+    public String getId() {
+        return videoId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
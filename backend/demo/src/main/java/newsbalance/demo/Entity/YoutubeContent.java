@@ -17,7 +17,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "youtube_contents")
+// 영상 URL 당 분석 결과는 한 행 (기존 DB 는 YoutubeContentUrlIndexInitializer 가 중복 정리 후 인덱스 생성)
+@Table(name = "youtube_contents",
+        indexes = @Index(name = "uq_youtube_contents_video_url", columnList = "video_url", unique = true))
 @Document(indexName = "youtube_contents")
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor
@@ -0,0 +1,6 @@
+package newsbalance.demo.Repository;
+
+public interface ChannelUploadCount {
+    String getChannelId();
+    long getUploads();
+}
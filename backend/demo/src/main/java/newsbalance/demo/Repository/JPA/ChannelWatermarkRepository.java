@@ -0,0 +1,9 @@
+package newsbalance.demo.Repository.JPA;
+
+import newsbalance.demo.Entity.ChannelWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ChannelWatermarkRepository extends JpaRepository<ChannelWatermark, String> {
+}
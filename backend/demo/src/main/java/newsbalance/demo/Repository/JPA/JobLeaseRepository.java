@@ -0,0 +1,39 @@
+package newsbalance.demo.Repository.JPA;
+
+import newsbalance.demo.Entity.JobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+// 시각 비교는 인스턴스 간 시계 차이를 피하기 위해 모두 DB 시각(now()) 기준
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    // lease 가 없거나 만료됐거나 이미 내 것이면 획득 (획득하면 1 반환)
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO job_leases (job_name, owner, lease_until, acquired_at) " +
+            "VALUES (:jobName, :owner, now() + make_interval(secs => :seconds), now()) " +
+            "ON CONFLICT (job_name) DO UPDATE " +
+            "SET owner = EXCLUDED.owner, lease_until = EXCLUDED.lease_until, acquired_at = EXCLUDED.acquired_at " +
+            "WHERE job_leases.lease_until < now() OR job_leases.owner = EXCLUDED.owner", nativeQuery = true)
+    int tryAcquire(@Param("jobName") String jobName, @Param("owner") String owner, @Param("seconds") long seconds);
+
+    // 실행 중 lease 연장 (이미 다른 인스턴스로 넘어갔으면 0 반환)
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE job_leases SET lease_until = now() + make_interval(secs => :seconds) " +
+            "WHERE job_name = :jobName AND owner = :owner", nativeQuery = true)
+    int renew(@Param("jobName") String jobName, @Param("owner") String owner, @Param("seconds") long seconds);
+
+    // 실행 종료 후 반납. 다른 인스턴스가 같은 주기에 늦게 깨어나 재실행하지 않도록 최소 holdSeconds 는 유지
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE job_leases " +
+            "SET lease_until = GREATEST(now(), acquired_at + make_interval(secs => :holdSeconds)) " +
+            "WHERE job_name = :jobName AND owner = :owner", nativeQuery = true)
+    int release(@Param("jobName") String jobName, @Param("owner") String owner, @Param("holdSeconds") long holdSeconds);
+}
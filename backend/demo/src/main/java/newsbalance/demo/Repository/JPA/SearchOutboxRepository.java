@@ -0,0 +1,22 @@
+package newsbalance.demo.Repository.JPA;
+
+import newsbalance.demo.Entity.SearchOutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SearchOutboxRepository extends JpaRepository<SearchOutboxEvent, Long> {
+
+    // 보낼 차례가 된 항목을 오래된 순으로 잠그고 가져옴 (다른 relay 가 잠근 행은 건너뜀)
+    @Query(value = "SELECT * FROM search_outbox " +
+            "WHERE next_attempt_at <= :now " +
+            "ORDER BY id " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<SearchOutboxEvent> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
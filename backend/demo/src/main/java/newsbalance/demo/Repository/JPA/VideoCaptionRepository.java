@@ -0,0 +1,33 @@
+package newsbalance.demo.Repository.JPA;
+
+import newsbalance.demo.Entity.VideoCaption;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface VideoCaptionRepository extends JpaRepository<VideoCaption, String> {
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO video_captions (video_id, caption_compressed, attempts, fetched_at) " +
+            "VALUES (:videoId, :caption, 1, now()) " +
+            "ON CONFLICT (video_id) DO UPDATE SET caption_compressed = EXCLUDED.caption_compressed, " +
+            "attempts = video_captions.attempts + 1, next_attempt_at = NULL, last_error = NULL, " +
+            "fetched_at = EXCLUDED.fetched_at", nativeQuery = true)
+    int storeCaption(@Param("videoId") String videoId, @Param("caption") byte[] caption);
+
+    // 실패 횟수를 올리고 다음 시도 시각을 baseSeconds * 2^(실패 횟수 - 1) 뒤로 미룸
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO video_captions (video_id, attempts, next_attempt_at, last_error) " +
+            "VALUES (:videoId, 1, now() + make_interval(secs => :baseSeconds), :error) " +
+            "ON CONFLICT (video_id) DO UPDATE SET attempts = video_captions.attempts + 1, " +
+            "next_attempt_at = now() + make_interval(secs => :baseSeconds * power(2, LEAST(video_captions.attempts, 10))), " +
+            "last_error = EXCLUDED.last_error", nativeQuery = true)
+    int recordFailure(@Param("videoId") String videoId, @Param("baseSeconds") long baseSeconds,
+                      @Param("error") String error);
+}
@@ -0,0 +1,47 @@
+package newsbalance.demo.Repository.JPA;
+
+import newsbalance.demo.Entity.WorkItem;
+import newsbalance.demo.Entity.WorkItemStatus;
+import newsbalance.demo.Entity.WorkItemType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface WorkItemRepository extends JpaRepository<WorkItem, Long> {
+
+    // 처리 가능한 항목을 잠그고 가져옴 (다른 작업자가 잠근 행은 건너뜀)
+    // 점유 기한(locked_until)이 지난 RUNNING 항목은 작업자가 죽은 것으로 보고 다시 가져옴
+    @Query(value = "SELECT * FROM work_items " +
+            "WHERE (status = 'PENDING' AND next_attempt_at <= :now) " +
+            "   OR (status = 'RUNNING' AND locked_until < :now) " +
+            "ORDER BY next_attempt_at " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<WorkItem> lockClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 같은 (type, payload) 의 대기 / 처리 중 항목이 있으면 uq_work_items_active 에 걸려 등록하지 않음 (등록하면 1 반환)
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO work_items (type, payload, status, attempts, max_attempts, next_attempt_at, " +
+            "last_error, created_at, updated_at) " +
+            "VALUES (:type, :payload, 'PENDING', 0, :maxAttempts, :nextAttemptAt, :lastError, now(), now()) " +
+            "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("type") String type, @Param("payload") String payload,
+                       @Param("maxAttempts") int maxAttempts, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                       @Param("lastError") String lastError);
+
+    boolean existsByTypeAndPayloadAndStatusIn(WorkItemType type, String payload, Collection<WorkItemStatus> statuses);
+
+    List<WorkItem> findByStatusOrderByUpdatedAtDesc(WorkItemStatus status, Pageable pageable);
+
+    long countByStatus(WorkItemStatus status);
+}
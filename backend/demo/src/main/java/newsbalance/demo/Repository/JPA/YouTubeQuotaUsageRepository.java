@@ -0,0 +1,23 @@
+package newsbalance.demo.Repository.JPA;
+
+import newsbalance.demo.Entity.YouTubeQuotaUsage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+@Repository
+public interface YouTubeQuotaUsageRepository extends JpaRepository<YouTubeQuotaUsage, LocalDate> {
+
+    // 인스턴스마다 자기 사용량을 더하기만 하므로 동시에 호출해도 합계가 맞음
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO youtube_quota_usage (quota_day, units) VALUES (:quotaDay, :units) " +
+            "ON CONFLICT (quota_day) DO UPDATE SET units = youtube_quota_usage.units + EXCLUDED.units",
+            nativeQuery = true)
+    int addUnits(@Param("quotaDay") LocalDate quotaDay, @Param("units") long units);
+}
@@ -0,0 +1,13 @@
+package newsbalance.demo.Repository.JPA;
+
+import newsbalance.demo.Entity.YouTubeVideo;
+
+import java.util.List;
+
+// YouTubeVideoRepository 에 붙는 JDBC 구현 (YouTubeVideoInsertRepositoryImpl)
+public interface YouTubeVideoInsertRepository {
+
+    // 아직 없는 영상만 한 번의 multi-row INSERT 로 저장하고, 실제로 저장된 ID 만 반환
+    // 푸시 / 채널 폴링 / 키워드 수집이 같은 영상을 동시에 저장해도 충돌로 실패하지 않음
+    List<String> insertIfAbsent(List<YouTubeVideo> videos);
+}
@@ -0,0 +1,45 @@
+package newsbalance.demo.Repository.JPA;
+
+import newsbalance.demo.Entity.YouTubeVideo;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class YouTubeVideoInsertRepositoryImpl implements YouTubeVideoInsertRepository {
+
+    private static final String INSERT = "INSERT INTO youtube_videos " +
+            "(video_id, channel_id, title, published_at, video_url) VALUES ";
+    private static final String ROW = "(?, ?, ?, ?, ?)";
+    private static final String ON_CONFLICT = " ON CONFLICT (video_id) DO NOTHING RETURNING video_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public YouTubeVideoInsertRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public List<String> insertIfAbsent(List<YouTubeVideo> videos) {
+        if (videos.isEmpty()) {
+            return List.of();
+        }
+        StringBuilder sql = new StringBuilder(INSERT);
+        List<Object> args = new ArrayList<>(videos.size() * 5);
+        for (YouTubeVideo video : videos) {
+            if (!args.isEmpty()) {
+                sql.append(", ");
+            }
+            sql.append(ROW);
+            args.add(video.getVideoId());
+            args.add(video.getChannelId());
+            args.add(video.getTitle());
+            args.add(video.getPublishedAt());
+            args.add(video.getVideoUrl());
+        }
+        sql.append(ON_CONFLICT);
+        return jdbcTemplate.queryForList(sql.toString(), String.class, args.toArray());
+    }
+}
@@ -1,13 +1,76 @@
 package newsbalance.demo.Repository.JPA;
 
 import newsbalance.demo.Entity.YouTubeVideo;
+import newsbalance.demo.Repository.ChannelUploadCount;
 import newsbalance.demo.Repository.UrlOnly;
+import newsbalance.demo.Repository.VideoFingerprint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface YouTubeVideoRepository extends JpaRepository<YouTubeVideo, String> {
+public interface YouTubeVideoRepository extends JpaRepository<YouTubeVideo, String>, YouTubeVideoInsertRepository {
     List<UrlOnly> findAllProjectedBy();
-}
\ No newline at end of file
+
+    List<UrlOnly> findByPublishedAtAfter(LocalDateTime since);
+
+    // 아직 분석 결과(YoutubeContent)가 없는 영상만 조회 (NOT EXISTS 라 DB 에서 anti-join 으로 처리)
+    @Query("SELECT v.videoUrl AS videoUrl, v.title AS title, v.publishedAt AS publishedAt FROM YouTubeVideo v " +
+            "WHERE NOT EXISTS (SELECT c.id FROM YoutubeContent c WHERE c.videoUrl = v.videoUrl)")
+    List<UrlOnly> findUnanalyzed();
+
+    @Query("SELECT v.videoUrl AS videoUrl, v.title AS title, v.publishedAt AS publishedAt FROM YouTubeVideo v " +
+            "WHERE v.publishedAt > :since " +
+            "AND NOT EXISTS (SELECT c.id FROM YoutubeContent c WHERE c.videoUrl = v.videoUrl)")
+    List<UrlOnly> findUnanalyzedPublishedAfter(@Param("since") LocalDateTime since);
+
+    // 자막 수집 대상인 최신 영상 ID (자막 수집 재시도용)
+    // 자막을 저장했거나, maxAttempts 번 실패했거나, 다음 시도 시각 전인 영상은 제외 (계속 실패하는 영상이 앞자리를 차지하지 않도록)
+    @Query("SELECT v.videoId FROM YouTubeVideo v WHERE NOT EXISTS (SELECT c.videoId FROM VideoCaption c " +
+            "WHERE c.videoId = v.videoId AND (c.captionCompressed IS NOT NULL OR c.attempts >= :maxAttempts " +
+            "OR c.nextAttemptAt > :now)) ORDER BY v.publishedAt DESC")
+    List<String> findIdsWithoutCaption(@Param("maxAttempts") int maxAttempts, @Param("now") LocalDateTime now,
+                                       Pageable pageable);
+
+    // since 이후 게시된 영상 ID (통계 갱신 대상)
+    @Query("SELECT v.videoId FROM YouTubeVideo v WHERE v.publishedAt > :since")
+    List<String> findIdsPublishedAfter(@Param("since") LocalDateTime since);
+
+    // 채널별 since 이후 업로드 수 (적응형 수집 간격 계산용)
+    @Query("SELECT v.channelId AS channelId, COUNT(v) AS uploads FROM YouTubeVideo v " +
+            "WHERE v.channelId IN :channelIds AND v.publishedAt > :since GROUP BY v.channelId")
+    List<ChannelUploadCount> countUploadsSince(@Param("channelIds") Collection<String> channelIds,
+                                               @Param("since") LocalDateTime since);
+
+    // 자막 지문 저장 (지문이 없으면 null)
+    @Modifying
+    @Transactional
+    @Query("UPDATE YouTubeVideo v SET v.captionSimhash = :simhash, " +
+            "v.simhashBand0 = :band0, v.simhashBand1 = :band1, v.simhashBand2 = :band2, v.simhashBand3 = :band3 " +
+            "WHERE v.videoId = :videoId")
+    int updateFingerprint(@Param("videoId") String videoId,
+                          @Param("simhash") Long simhash,
+                          @Param("band0") Integer band0, @Param("band1") Integer band1,
+                          @Param("band2") Integer band2, @Param("band3") Integer band3);
+
+    @Query("SELECT v.videoId AS videoId, v.videoUrl AS videoUrl, v.title AS title, v.publishedAt AS publishedAt, " +
+            "v.captionSimhash AS captionSimhash FROM YouTubeVideo v WHERE v.videoUrl = :videoUrl")
+    List<VideoFingerprint> findFingerprintByVideoUrl(@Param("videoUrl") String videoUrl);
+
+    // band 하나라도 같은 다른 영상 (해밍 거리 확인은 호출 측에서)
+    @Query("SELECT v.videoId AS videoId, v.videoUrl AS videoUrl, v.title AS title, v.publishedAt AS publishedAt, " +
+            "v.captionSimhash AS captionSimhash FROM YouTubeVideo v " +
+            "WHERE v.videoId <> :videoId AND (v.simhashBand0 = :band0 OR v.simhashBand1 = :band1 " +
+            "OR v.simhashBand2 = :band2 OR v.simhashBand3 = :band3)")
+    List<VideoFingerprint> findFingerprintCandidates(@Param("videoId") String videoId,
+                                                     @Param("band0") int band0, @Param("band1") int band1,
+                                                     @Param("band2") int band2, @Param("band3") int band3);
+}
@@ -0,0 +1,11 @@
+package newsbalance.demo.Repository;
+
+import java.time.LocalDateTime;
+
+public interface VideoFingerprint {
+    String getVideoId();
+    String getVideoUrl();
+    String getTitle();
+    LocalDateTime getPublishedAt();
+    Long getCaptionSimhash();
+}
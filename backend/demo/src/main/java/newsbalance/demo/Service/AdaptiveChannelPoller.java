@@ -0,0 +1,195 @@
+package newsbalance.demo.Service;
+
+import lombok.extern.slf4j.Slf4j;
+import newsbalance.demo.Configuration.YouTubeConfig;
+import newsbalance.demo.Entity.WorkItemType;
+import newsbalance.demo.Repository.ChannelUploadCount;
+import newsbalance.demo.Repository.JPA.YouTubeVideoRepository;
+import newsbalance.demo.Service.YouTubeApiGateway.Endpoint;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// 채널별 업로드 빈도에 맞춰 채널마다 다른 간격으로 수집
+// 다음 수집 시각 기준 우선순위 큐로 하루 전체에 호출을 분산하고,
+// 하루 수집 횟수는 쿼터 예산 안에서 업로드가 많은 채널에 더 많이 배분
+@Slf4j
+@Service
+public class AdaptiveChannelPoller {
+
+    // 업로드 빈도를 다시 계산해 간격을 조정하는 주기
+    private static final Duration RESCHEDULE_INTERVAL = Duration.ofHours(1);
+    // 한 번의 tick 에서 수집할 최대 채널 수 (밀린 채널이 몰려도 한꺼번에 호출하지 않음)
+    private static final int MAX_POLLS_PER_TICK = 5;
+    private static final double SECONDS_PER_DAY = Duration.ofDays(1).toSeconds();
+
+    private final YouTubeService youtubeService;
+    private final YouTubeVideoRepository videoRepo;
+    private final WorkItemService workItemService;
+    private final ClusterJobLock clusterJobLock;
+    private final YouTubeConfig config;
+
+    private final PriorityQueue<ChannelSchedule> dueQueue =
+            new PriorityQueue<>(Comparator.comparing(ChannelSchedule::nextDue));
+    private final Map<String, Duration> intervals = new HashMap<>();
+    private Instant lastReschedule;
+
+    private final AtomicLong polls = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    private record ChannelSchedule(String channelId, Instant nextDue) {
+    }
+
+    public AdaptiveChannelPoller(YouTubeService youtubeService,
+                                 YouTubeVideoRepository videoRepo,
+                                 WorkItemService workItemService,
+                                 ClusterJobLock clusterJobLock,
+                                 YouTubeConfig config) {
+        this.youtubeService = youtubeService;
+        this.videoRepo = videoRepo;
+        this.workItemService = workItemService;
+        this.clusterJobLock = clusterJobLock;
+        this.config = config;
+    }
+
+    // lease 를 tick 간격보다 길게 유지해 살아있는 동안 같은 인스턴스가 계속 수집을 맡음 (일정이 메모리에 있으므로)
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void tick() {
+        if (!config.isAdaptivePolling()) {
+            return;
+        }
+        clusterJobLock.runExclusively("adaptive-channel-poll", Duration.ofMinutes(5), Duration.ofMinutes(3),
+                this::pollDueChannels);
+    }
+
+    private void pollDueChannels() {
+        Instant now = Instant.now();
+        List<String> due = new ArrayList<>();
+        synchronized (this) {
+            if (lastReschedule == null || now.isAfter(lastReschedule.plus(RESCHEDULE_INTERVAL))) {
+                reschedule(now);
+            }
+            while (due.size() < MAX_POLLS_PER_TICK && !dueQueue.isEmpty()
+                    && !dueQueue.peek().nextDue().isAfter(now)) {
+                due.add(dueQueue.poll().channelId());
+            }
+        }
+
+        for (String channelId : due) {
+            poll(channelId);
+            synchronized (this) {
+                Duration interval = intervals.get(channelId);
+                if (interval != null) {
+                    dueQueue.add(new ChannelSchedule(channelId, Instant.now().plus(interval)));
+                }
+            }
+        }
+    }
+
+    private void poll(String channelId) {
+        polls.incrementAndGet();
+        try {
+            int saved = youtubeService.ingestChannel(channelId);
+            if (saved > 0) {
+                log.info("채널 {} 신규 영상 {}건 저장", channelId, saved);
+            }
+        } catch (QuotaExceededException e) {
+            // 워터마크가 그대로라 다음 수집 때 같은 구간을 다시 조회함
+            failures.incrementAndGet();
+            log.warn("쿼터 부족으로 채널 {} 수집 건너뜀", channelId);
+        } catch (Exception e) {
+            failures.incrementAndGet();
+            workItemService.enqueue(WorkItemType.INGEST_CHANNEL, channelId, e);
+        }
+    }
+
+    // 최근 uploadRateWindow 동안의 업로드 수로 채널별 수집 간격을 다시 계산
+    // 업로드가 없던 채널도 가끔은 확인하도록 업로드 수에 1을 더해 계산
+    private void reschedule(Instant now) {
+        List<String> channelIds = config.getChannelIds() == null ? List.of() : config.getChannelIds();
+        Duration window = config.getUploadRateWindow();
+        LocalDateTime since = LocalDateTime.now(ZoneOffset.UTC).minus(window);
+        Map<String, Long> uploads = channelIds.isEmpty() ? Map.of()
+                : videoRepo.countUploadsSince(channelIds, since).stream()
+                .collect(Collectors.toMap(ChannelUploadCount::getChannelId, ChannelUploadCount::getUploads));
+
+        double windowDays = window.toSeconds() / SECONDS_PER_DAY;
+        Map<String, Double> ratePerDay = new LinkedHashMap<>();
+        for (String channelId : channelIds) {
+            ratePerDay.put(channelId, (uploads.getOrDefault(channelId, 0L) + 1) / windowDays);
+        }
+        double totalRate = ratePerDay.values().stream().mapToDouble(Double::doubleValue).sum();
+        double pollBudget = dailyPollBudget();
+
+        Map<String, Instant> previousDue = dueQueue.stream()
+                .collect(Collectors.toMap(ChannelSchedule::channelId, ChannelSchedule::nextDue));
+        intervals.clear();
+        dueQueue.clear();
+        ratePerDay.forEach((channelId, rate) -> {
+            double pollsPerDay = pollBudget * rate / totalRate;
+            Duration interval = clamp(pollsPerDay > 0
+                    ? Duration.ofSeconds((long) (SECONDS_PER_DAY / pollsPerDay))
+                    : config.getMaxPollInterval());
+            intervals.put(channelId, interval);
+
+            // 처음 보는 채널은 간격 안에서 채널마다 다른 시점에 시작해 호출이 한 시각에 몰리지 않게 함
+            // 간격이 줄어든 채널은 새 간격보다 늦게 돌지 않도록 당김
+            Instant latest = now.plus(interval);
+            Instant nextDue = previousDue.containsKey(channelId)
+                    ? min(previousDue.get(channelId), latest)
+                    : now.plusSeconds((long) (interval.toSeconds() * spread(channelId)));
+            dueQueue.add(new ChannelSchedule(channelId, nextDue));
+        });
+        lastReschedule = now;
+        log.info("채널 수집 일정 갱신: 채널 {}개, 하루 수집 예산 {}회", intervals.size(), (long) pollBudget);
+    }
+
+    // 채널 수집에 쓸 수 있는 하루 search 호출 수
+    private double dailyPollBudget() {
+        long backgroundQuota = config.getDailyQuota() - config.getInteractiveQuotaReserve();
+        return Math.max(0, backgroundQuota * config.getPollQuotaShare() / Endpoint.SEARCH.getCost());
+    }
+
+    private Duration clamp(Duration interval) {
+        if (interval.compareTo(config.getMinPollInterval()) < 0) {
+            return config.getMinPollInterval();
+        }
+        if (interval.compareTo(config.getMaxPollInterval()) > 0) {
+            return config.getMaxPollInterval();
+        }
+        return interval;
+    }
+
+    // 채널 ID 로 정해지는 0~1 사이 값 (재시작해도 같은 채널은 같은 위치에서 시작)
+    private static double spread(String channelId) {
+        return (channelId.hashCode() & 0xFFFF) / 65536.0;
+    }
+
+    private static Instant min(Instant a, Instant b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> channels = new LinkedHashMap<>();
+        dueQueue.stream()
+                .sorted(Comparator.comparing(ChannelSchedule::nextDue))
+                .forEach(schedule -> channels.put(schedule.channelId(), Map.of(
+                        "intervalMinutes", intervals.get(schedule.channelId()).toMinutes(),
+                        "nextDue", schedule.nextDue().toString())));
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", config.isAdaptivePolling());
+        stats.put("dailyPollBudget", (long) dailyPollBudget());
+        stats.put("polls", polls.get());
+        stats.put("failures", failures.get());
+        stats.put("channels", channels);
+        return stats;
+    }
+}
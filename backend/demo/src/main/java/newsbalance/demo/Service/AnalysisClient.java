@@ -0,0 +1,146 @@
+package newsbalance.demo.Service;
+
+import newsbalance.demo.Configuration.AnalysisConfig;
+import newsbalance.demo.DTO.Request.YoutubeContentRequestDTO;
+import newsbalance.demo.DTO.SummarizeBatchResponseDTO;
+import newsbalance.demo.DTO.SummarizeMessageResponseDTO;
+import newsbalance.demo.DTO.UrlContentRequestDTO;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 분석 서버(Flask) 호출 전용 클라이언트
+// - 사용자 요청(단건 분석, 토론 요약)과 일괄 분석은 서로 다른 커넥션 풀 사용
+// - 엔드포인트별 응답 대기 시간
+// - 풀(일괄 / 사용자 요청)과 엔드포인트별 서킷 브레이커: 서버가 계속 실패하면 타임아웃까지 기다리지 않고 바로 AnalysisUnavailableException
+//   (일괄 분석의 타임아웃이 사용자 요청 쪽 브레이커를 열지 않도록 풀마다 따로 둠)
+@Service
+public class AnalysisClient {
+
+    private final AnalysisConfig config;
+    private final PoolingHttpClientConnectionManager interactivePool;
+    private final PoolingHttpClientConnectionManager bulkPool;
+
+    private final RestTemplate bulkSummarize;
+    private final RestTemplate bulkSummarizeBatch;
+    private final RestTemplate interactiveSummarize;
+    private final RestTemplate debateSummarize;
+
+    private final CircuitBreaker bulkSummarizeBreaker;
+    private final CircuitBreaker interactiveSummarizeBreaker;
+    private final CircuitBreaker debateBreaker;
+
+    public AnalysisClient(AnalysisConfig config,
+                          @Qualifier("analysisInteractivePool") PoolingHttpClientConnectionManager interactivePool,
+                          @Qualifier("analysisBulkPool") PoolingHttpClientConnectionManager bulkPool) {
+        this.config = config;
+        this.interactivePool = interactivePool;
+        this.bulkPool = bulkPool;
+
+        this.bulkSummarize = restTemplate(bulkPool, config.getBulk(), config.getSummarizeTimeout());
+        this.bulkSummarizeBatch = restTemplate(bulkPool, config.getBulk(), config.getBatchTimeout());
+        this.interactiveSummarize = restTemplate(interactivePool, config.getInteractive(),
+                config.getInteractiveSummarizeTimeout());
+        this.debateSummarize = restTemplate(interactivePool, config.getInteractive(),
+                config.getDebateSummarizeTimeout());
+
+        this.bulkSummarizeBreaker = new CircuitBreaker("summarize-bulk",
+                config.getBreakerFailureThreshold(), config.getBreakerOpenDuration());
+        this.interactiveSummarizeBreaker = new CircuitBreaker("summarize-interactive",
+                config.getBreakerFailureThreshold(), config.getBreakerOpenDuration());
+        this.debateBreaker = new CircuitBreaker("debate-summarize",
+                config.getBreakerFailureThreshold(), config.getBreakerOpenDuration());
+    }
+
+    // 일괄 분석용 영상 요약
+    public YoutubeContentRequestDTO summarizeVideo(String url) {
+        return post(bulkSummarizeBreaker, bulkSummarize, config.getSummarizeBaseUrl() + "/summarize",
+                Map.of("url", url), YoutubeContentRequestDTO.class);
+    }
+
+    // 일괄 분석용 여러 영상 요약 (영상별 성공 / 실패는 응답 항목의 status 로 구분)
+    public SummarizeBatchResponseDTO summarizeVideos(List<String> urls) {
+        return post(bulkSummarizeBreaker, bulkSummarizeBatch, config.getSummarizeBaseUrl() + "/summarize/batch",
+                Map.of("urls", urls), SummarizeBatchResponseDTO.class);
+    }
+
+    // 사용자가 요청한 링크 요약
+    public UrlContentRequestDTO summarizeUrl(String url) {
+        return post(interactiveSummarizeBreaker, interactiveSummarize, config.getSummarizeBaseUrl() + "/summarize",
+                Map.of("url", url), UrlContentRequestDTO.class);
+    }
+
+    public SummarizeMessageResponseDTO summarizeDebate(Map<String, Object> request) {
+        return post(debateBreaker, debateSummarize, config.getDebateBaseUrl() + "/debate/summarize",
+                request, SummarizeMessageResponseDTO.class);
+    }
+
+    private <T> T post(CircuitBreaker breaker, RestTemplate restTemplate, String url, Object request,
+                       Class<T> responseType) {
+        return breaker.execute(() -> {
+            ResponseEntity<T> response;
+            try {
+                response = restTemplate.postForEntity(url, request, responseType);
+            } catch (HttpClientErrorException e) {
+                // 4xx 는 요청 문제라 서킷 브레이커 실패로 세지 않도록 그대로 던짐
+                throw e;
+            } catch (RestClientException e) {
+                throw new AnalysisUnavailableException("분석 서버 호출 실패: " + url + " / " + e.getMessage(), e);
+            }
+            if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+                throw new AnalysisUnavailableException("분석 서버 오류: " + response.getStatusCode() + " " + url);
+            }
+            return response.getBody();
+        });
+    }
+
+    private static RestTemplate restTemplate(PoolingHttpClientConnectionManager pool, AnalysisConfig.Pool poolConfig,
+                                             Duration responseTimeout) {
+        // 같은 풀을 여러 클라이언트가 공유하므로 클라이언트를 닫아도 풀은 닫지 않음 (풀은 빈 종료 시 닫힘)
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(pool)
+                .setConnectionManagerShared(true)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(poolConfig.getAcquireTimeout()))
+                        .setResponseTimeout(Timeout.of(responseTimeout))
+                        .build())
+                // LLM 요약은 멱등이 아니고 비싸므로 자동 재시도하지 않음 (재시도는 작업 큐에서)
+                .disableAutomaticRetries()
+                .build();
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("bulkSummarizeBreaker", bulkSummarizeBreaker.getStats());
+        stats.put("interactiveSummarizeBreaker", interactiveSummarizeBreaker.getStats());
+        stats.put("debateBreaker", debateBreaker.getStats());
+        stats.put("interactivePool", poolStats(interactivePool.getTotalStats()));
+        stats.put("bulkPool", poolStats(bulkPool.getTotalStats()));
+        return stats;
+    }
+
+    private static Map<String, Integer> poolStats(PoolStats stats) {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        result.put("leased", stats.getLeased());
+        result.put("pending", stats.getPending());
+        result.put("available", stats.getAvailable());
+        result.put("max", stats.getMax());
+        return result;
+    }
+}
@@ -0,0 +1,250 @@
+package newsbalance.demo.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import newsbalance.demo.Configuration.AnalysisConfig;
+import newsbalance.demo.DTO.Response.AnalysisJobStatus;
+import newsbalance.demo.DTO.Response.AnalysisJobStatus.Failure;
+import newsbalance.demo.DTO.Response.AnalysisJobStatus.State;
+import newsbalance.demo.Entity.VideoInfo;
+import newsbalance.demo.Entity.WorkItemType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 전체 영상 분석(/api/process-all)을 백그라운드 작업으로 실행
+// 요청 즉시 작업 ID 를 돌려주고, 진행률 / 처리량 / 남은 시간 / 실패 목록은 상태 조회와 /topic/jobs/{jobId} 로 제공
+@Slf4j
+@Service
+public class AnalysisJobService {
+
+    // 실패 목록은 최근 항목만 보관 (전체 실패 건수는 failed 로 집계)
+    private static final int MAX_REPORTED_FAILURES = 200;
+    // 진행 상황 WebSocket 전송 최소 간격
+    private static final long PUBLISH_INTERVAL_MILLIS = 1_000;
+
+    private final YouTubeService youTubeService;
+    private final VideoAnalysisService videoAnalysisService;
+    private final WorkItemService workItemService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final AnalysisConfig config;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    // 작업 하나를 끝까지 조율하는 스레드 (실제 분석 요청은 작업별 풀에서 실행)
+    private final ExecutorService coordinator = Executors.newSingleThreadExecutor();
+    private volatile Job active;
+
+    public AnalysisJobService(YouTubeService youTubeService,
+                              VideoAnalysisService videoAnalysisService,
+                              WorkItemService workItemService,
+                              SimpMessagingTemplate messagingTemplate,
+                              ObjectMapper objectMapper,
+                              AnalysisConfig config) {
+        this.youTubeService = youTubeService;
+        this.videoAnalysisService = videoAnalysisService;
+        this.workItemService = workItemService;
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.config = config;
+    }
+
+    // 이미 실행 중인 작업이 있으면 새로 만들지 않고 그 작업을 반환 (같은 영상을 중복 분석하지 않도록)
+    public synchronized Optional<AnalysisJobStatus> findActive() {
+        return Optional.ofNullable(active)
+                .filter(job -> !job.isFinished())
+                .map(Job::status);
+    }
+
+    // force: 이미 분석한 영상도 다시 분석, since: 그 이후 게시된 영상만 대상
+    public synchronized AnalysisJobStatus submit(Integer parallelism, boolean force, LocalDateTime since) {
+        Optional<AnalysisJobStatus> running = findActive();
+        if (running.isPresent()) {
+            return running.get();
+        }
+        int requested = parallelism != null ? parallelism : config.getJobParallelism();
+        // 묶음 전송을 쓰면 묶음이 찰 만큼은 동시에 요청 (AnalysisConfig.getMinJobParallelism)
+        int parallelismToUse = Math.max(config.getMinJobParallelism(), Math.min(requested, config.getMaxJobParallelism()));
+        Job job = new Job(UUID.randomUUID().toString(), parallelismToUse, force, since);
+        jobs.put(job.id, job);
+        active = job;
+        coordinator.execute(() -> run(job));
+        return job.status();
+    }
+
+    public Optional<AnalysisJobStatus> getStatus(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(Job::status);
+    }
+
+    public List<AnalysisJobStatus> getJobs() {
+        return jobs.values().stream()
+                .map(Job::status)
+                .sorted(Comparator.comparing(AnalysisJobStatus::startedAt,
+                        Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder())).reversed())
+                .toList();
+    }
+
+    // 아직 시작하지 않은 항목만 건너뜀 (진행 중인 요청은 끝까지 처리)
+    public boolean cancel(String jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null || job.isFinished()) {
+            return false;
+        }
+        job.cancelled.set(true);
+        return true;
+    }
+
+    private void run(Job job) {
+        ExecutorService workers = Executors.newFixedThreadPool(job.parallelism);
+        try {
+            List<VideoInfo> videoInfos = youTubeService.getVideoInfoForAnalysis(job.force, job.since);
+            job.start(videoInfos.size());
+            publish(job, true);
+
+            List<CompletableFuture<Void>> tasks = new ArrayList<>(videoInfos.size());
+            for (VideoInfo info : videoInfos) {
+                tasks.add(CompletableFuture.runAsync(() -> process(job, info), workers));
+            }
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+            job.finish(job.cancelled.get() ? State.CANCELLED : State.COMPLETED);
+        } catch (Exception e) {
+            log.error("분석 작업 {} 실패", job.id, e);
+            job.finish(State.FAILED);
+        } finally {
+            workers.shutdown();
+        }
+        AnalysisJobStatus status = job.status();
+        log.info("분석 작업 {} 종료: {} (성공 {}건, 실패 {}건, 전체 {}건)",
+                job.id, status.state(), status.succeeded(), status.failed(), status.total());
+        publish(job, true);
+    }
+
+    private void process(Job job, VideoInfo info) {
+        if (job.cancelled.get()) {
+            return;
+        }
+        try {
+            videoAnalysisService.analyze(info, job.force);
+            job.succeeded.incrementAndGet();
+        } catch (Exception e) {
+            job.recordFailure(info.videoUrl(), e.getMessage());
+            enqueueRetry(info, e);
+        }
+        job.processed.incrementAndGet();
+        publish(job, false);
+    }
+
+    // 실패한 영상은 재시도 작업으로 넘김
+    private void enqueueRetry(VideoInfo info, Exception cause) {
+        try {
+            workItemService.enqueue(WorkItemType.ANALYZE_VIDEO, objectMapper.writeValueAsString(info), cause);
+        } catch (JsonProcessingException e) {
+            log.warn("재시도 작업 등록 실패: {} / {}", info.videoUrl(), e.getMessage());
+        }
+    }
+
+    // 항목마다 보내지 않고 PUBLISH_INTERVAL_MILLIS 에 한 번만 전송 (시작 / 종료는 항상 전송)
+    private void publish(Job job, boolean immediate) {
+        long now = System.currentTimeMillis();
+        if (immediate) {
+            job.lastPublished.set(now);
+        } else {
+            long last = job.lastPublished.get();
+            if (now - last < PUBLISH_INTERVAL_MILLIS || !job.lastPublished.compareAndSet(last, now)) {
+                return;
+            }
+        }
+        try {
+            messagingTemplate.convertAndSend("/topic/jobs/" + job.id, job.status());
+        } catch (Exception e) {
+            log.debug("분석 작업 {} 진행 상황 전송 실패: {}", job.id, e.getMessage());
+        }
+    }
+
+    // 보관 기간이 지난 종료 작업 정리
+    @Scheduled(fixedDelay = 60 * 60 * 1000)
+    public void evictFinished() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(config.getJobRetention());
+        jobs.values().removeIf(job -> job.isFinished() && job.finishedAt.isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobs.values().forEach(job -> job.cancelled.set(true));
+        coordinator.shutdown();
+    }
+
+    private static final class Job {
+        private final String id;
+        private final int parallelism;
+        private final boolean force;
+        private final LocalDateTime since;
+        private final AtomicInteger processed = new AtomicInteger();
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private final AtomicLong lastPublished = new AtomicLong();
+        private final Deque<Failure> failures = new ConcurrentLinkedDeque<>();
+
+        private volatile State state = State.QUEUED;
+        private volatile int total;
+        private volatile long startedNanos;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+
+        private Job(String id, int parallelism, boolean force, LocalDateTime since) {
+            this.id = id;
+            this.parallelism = parallelism;
+            this.force = force;
+            this.since = since;
+        }
+
+        private void start(int total) {
+            this.total = total;
+            this.startedNanos = System.nanoTime();
+            this.startedAt = LocalDateTime.now();
+            this.state = State.RUNNING;
+        }
+
+        private void finish(State state) {
+            this.finishedAt = LocalDateTime.now();
+            this.state = state;
+        }
+
+        private boolean isFinished() {
+            return finishedAt != null;
+        }
+
+        private void recordFailure(String videoUrl, String error) {
+            failed.incrementAndGet();
+            failures.addLast(new Failure(videoUrl, error));
+            while (failures.size() > MAX_REPORTED_FAILURES) {
+                failures.pollFirst();
+            }
+        }
+
+        private AnalysisJobStatus status() {
+            int done = processed.get();
+            double perMinute = 0;
+            Long eta = null;
+            if (startedAt != null && done > 0) {
+                double elapsedMinutes = (System.nanoTime() - startedNanos) / 60e9;
+                perMinute = done / Math.max(elapsedMinutes, 1e-9);
+                if (state == State.RUNNING) {
+                    eta = (long) ((total - done) / perMinute * 60);
+                }
+            }
+            return new AnalysisJobStatus(id, state, parallelism, total, done, succeeded.get(), failed.get(),
+                    Math.round(perMinute * 10) / 10.0, eta, startedAt, finishedAt, List.copyOf(failures));
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package newsbalance.demo.Service;
+
+// 분석 서버 호출이 실패했거나 서킷 브레이커가 열려 호출을 보내지 않은 경우
+public class AnalysisUnavailableException extends RuntimeException {
+    public AnalysisUnavailableException(String message) {
+        super(message);
+    }
+
+    public AnalysisUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,27 @@
+package newsbalance.demo.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import newsbalance.demo.Entity.VideoInfo;
+import newsbalance.demo.Entity.WorkItemType;
+import org.springframework.stereotype.Component;
+
+// 실패한 영상 분석 재시도
+@Component
+@RequiredArgsConstructor
+public class AnalyzeVideoWorkItemHandler implements WorkItemHandler {
+
+    private final VideoAnalysisService videoAnalysisService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public WorkItemType type() {
+        return WorkItemType.ANALYZE_VIDEO;
+    }
+
+    @Override
+    public void handle(String payload) throws Exception {
+        // 재시도 사이에 다른 요청이 분석을 끝냈으면 건너뜀
+        videoAnalysisService.analyze(objectMapper.readValue(payload, VideoInfo.class), false);
+    }
+}
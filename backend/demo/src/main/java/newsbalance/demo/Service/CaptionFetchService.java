@@ -0,0 +1,214 @@
+package newsbalance.demo.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import newsbalance.demo.Configuration.YouTubeConfig;
+import newsbalance.demo.Entity.CaptionCodec;
+import newsbalance.demo.Repository.JPA.VideoCaptionRepository;
+import newsbalance.demo.Repository.JPA.YouTubeVideoRepository;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.parser.Parser;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 새로 저장된 영상의 자막을 수집 스레드와 분리된 작업자 풀에서 내려받아 압축 저장
+@Slf4j
+@Service
+public class CaptionFetchService {
+
+    private static final String PLAYER_RESPONSE_MARKER = "ytInitialPlayerResponse";
+    private static final int BACKFILL_BATCH_SIZE = 200;
+    // 이 횟수만큼 실패한 영상은 더 이상 backfill 대상에 넣지 않음
+    private static final int MAX_ATTEMPTS = 5;
+    // 실패 후 다음 시도까지 기본 대기 시간 (실패할 때마다 두 배)
+    private static final Duration RETRY_BASE_DELAY = Duration.ofMinutes(30);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final YouTubeVideoRepository videoRepo;
+    private final VideoCaptionRepository captionRepo;
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final YouTubeConfig config;
+    private final ClusterJobLock clusterJobLock;
+
+    private final ExecutorService executor;
+
+    // 대기열에 들어가 있거나 처리 중인 영상 (중복 등록 방지)
+    private final Set<String> queued = ConcurrentHashMap.newKeySet();
+
+    public CaptionFetchService(YouTubeVideoRepository videoRepo,
+                               VideoCaptionRepository captionRepo,
+                               @Qualifier("youtubeWebClient") WebClient webClient,
+                               ObjectMapper objectMapper,
+                               YouTubeConfig config,
+                               ClusterJobLock clusterJobLock) {
+        this.videoRepo = videoRepo;
+        this.captionRepo = captionRepo;
+        this.webClient = webClient;
+        this.objectMapper = objectMapper;
+        this.config = config;
+        this.clusterJobLock = clusterJobLock;
+        this.executor = new ThreadPoolExecutor(
+                config.getCaptionWorkers(), config.getCaptionWorkers(), 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(config.getCaptionQueueCapacity()));
+    }
+
+    // 대기열이 가득 차면 건너뛰고, 주기적인 backfill 에서 다시 등록됨
+    public void enqueue(Collection<String> videoIds) {
+        for (String videoId : videoIds) {
+            if (!queued.add(videoId)) {
+                continue;
+            }
+            try {
+                executor.execute(() -> fetchAndStore(videoId));
+            } catch (RejectedExecutionException e) {
+                queued.remove(videoId);
+                log.debug("자막 수집 대기열이 가득 차 {} 를 다음 backfill 로 미룸", videoId);
+            }
+        }
+    }
+
+    // 대기열에서 밀렸거나 재시작으로 유실된 영상의 자막 수집 재등록
+    @Scheduled(fixedDelay = 30 * 60 * 1000, initialDelay = 5 * 60 * 1000)
+    public void backfill() {
+        clusterJobLock.runExclusively("caption-backfill", Duration.ofMinutes(2), Duration.ofMinutes(10),
+                () -> enqueue(videoRepo.findIdsWithoutCaption(MAX_ATTEMPTS, LocalDateTime.now(),
+                        PageRequest.of(0, BACKFILL_BATCH_SIZE))));
+    }
+
+    private void fetchAndStore(String videoId) {
+        try {
+            String caption = fetchCaption(videoId);
+            // 자막이 없는 영상도 빈 값으로 저장해 다시 시도하지 않도록 함
+            // 분석 전에 거의 같은 자막의 영상을 찾을 수 있도록 지문도 함께 저장
+            captionRepo.storeCaption(videoId, CaptionCodec.compress(caption == null ? "" : caption));
+            Long simhash = TranscriptFingerprint.simHash(caption);
+            videoRepo.updateFingerprint(videoId, simhash,
+                    band(simhash, 0), band(simhash, 1), band(simhash, 2), band(simhash, 3));
+        } catch (Exception e) {
+            log.warn("영상 {} 자막 수집 실패: {}", videoId, e.getMessage());
+            recordFailure(videoId, e);
+        } finally {
+            queued.remove(videoId);
+        }
+    }
+
+    // 실패 기록 (backfill 에서 다음 시도 시각까지 / 최대 횟수 이후로는 제외)
+    private void recordFailure(String videoId, Exception cause) {
+        try {
+            String error = String.valueOf(cause.getMessage());
+            captionRepo.recordFailure(videoId, RETRY_BASE_DELAY.toSeconds(),
+                    error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        } catch (Exception e) {
+            log.warn("영상 {} 자막 수집 실패 기록 실패: {}", videoId, e.getMessage());
+        }
+    }
+
+    private static Integer band(Long simhash, int index) {
+        return simhash == null ? null : TranscriptFingerprint.band(simhash, index);
+    }
+
+    // 시청 페이지의 captionTracks 에서 설정 언어 트랙을 찾아 timedtext XML 을 텍스트로 변환
+    private String fetchCaption(String videoId) throws Exception {
+        String html = webClient.get()
+                .uri("https://www.youtube.com/watch?v=" + videoId + "&hl=" + config.getCaptionLanguage())
+                .retrieve().bodyToMono(String.class)
+                .block();
+        if (html == null) {
+            return null;
+        }
+
+        String trackUrl = null;
+        for (JsonNode track : findCaptionTracks(html, objectMapper)) {
+            if (config.getCaptionLanguage().equals(track.path("languageCode").asText())) {
+                trackUrl = track.path("baseUrl").asText(null);
+                break;
+            }
+        }
+        if (trackUrl == null) {
+            return null;
+        }
+
+        String xml = webClient.get()
+                .uri(URI.create(trackUrl))
+                .retrieve().bodyToMono(String.class)
+                .block();
+        if (xml == null) {
+            return null;
+        }
+
+        Document doc = Jsoup.parse(xml, "", Parser.xmlParser());
+        StringBuilder text = new StringBuilder();
+        for (Element line : doc.select("text")) {
+            if (text.length() > 0) {
+                text.append(' ');
+            }
+            text.append(Parser.unescapeEntities(line.text(), false));
+        }
+        return text.toString();
+    }
+
+    // 시청 페이지에 포함된 ytInitialPlayerResponse JSON 의 captionTracks (없으면 빈 노드)
+    // 트랙 항목 안에 배열 / 객체가 중첩되어 있으므로 정규식 대신 JSON 객체 전체를 잘라 Jackson 으로 읽음
+    static JsonNode findCaptionTracks(String html, ObjectMapper objectMapper) throws IOException {
+        int marker = html.indexOf(PLAYER_RESPONSE_MARKER);
+        int start = marker < 0 ? -1 : html.indexOf('{', marker);
+        String json = start < 0 ? null : extractJsonObject(html, start);
+        if (json == null) {
+            return MissingNode.getInstance();
+        }
+        return objectMapper.readTree(json)
+                .path("captions")
+                .path("playerCaptionsTracklistRenderer")
+                .path("captionTracks");
+    }
+
+    // start 위치의 '{' 부터 짝이 맞는 '}' 까지 (문자열 안의 괄호 / 이스케이프는 무시), 끝나지 않으면 null
+    static String extractJsonObject(String text, int start) {
+        int depth = 0;
+        boolean inString = false;
+        for (int i = start; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (inString) {
+                if (c == '\\') {
+                    i++;
+                } else if (c == '"') {
+                    inString = false;
+                }
+            } else if (c == '"') {
+                inString = true;
+            } else if (c == '{') {
+                depth++;
+            } else if (c == '}' && --depth == 0) {
+                return text.substring(start, i + 1);
+            }
+        }
+        return null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,82 @@
+package newsbalance.demo.Service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import newsbalance.demo.Repository.JPA.JobLeaseRepository;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// job_leases 테이블 기반 스케줄 작업 단일 실행 보장
+// 실행 중에는 heartbeat 로 lease 를 연장하고, 인스턴스가 죽으면 lease 만료 후 다른 인스턴스가 이어받음
+@Slf4j
+@Service
+public class ClusterJobLock {
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final String owner = resolveOwner();
+
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor();
+
+    public ClusterJobLock(JobLeaseRepository jobLeaseRepository) {
+        this.jobLeaseRepository = jobLeaseRepository;
+    }
+
+    // lease 를 얻은 경우에만 job 을 실행하고 true 반환
+    // minHold: 같은 주기에 다른 인스턴스가 다시 실행하지 않도록 실행 시작부터 lease 를 유지할 최소 시간
+    public boolean runExclusively(String jobName, Duration lease, Duration minHold, Runnable job) {
+        long leaseSeconds = Math.max(1, lease.toSeconds());
+        if (jobLeaseRepository.tryAcquire(jobName, owner, leaseSeconds) == 0) {
+            log.debug("작업 {} 은 다른 인스턴스가 실행 중이거나 이미 실행함", jobName);
+            return false;
+        }
+
+        long renewEvery = Math.max(1, leaseSeconds / 3);
+        ScheduledFuture<?> renewal = heartbeat.scheduleAtFixedRate(() -> {
+            try {
+                if (jobLeaseRepository.renew(jobName, owner, leaseSeconds) == 0) {
+                    log.warn("작업 {} lease 를 잃음 (다른 인스턴스가 인계)", jobName);
+                }
+            } catch (Exception e) {
+                log.warn("작업 {} lease 연장 실패: {}", jobName, e.getMessage());
+            }
+        }, renewEvery, renewEvery, TimeUnit.SECONDS);
+
+        try {
+            job.run();
+            return true;
+        } finally {
+            renewal.cancel(false);
+            try {
+                jobLeaseRepository.release(jobName, owner, minHold.toSeconds());
+            } catch (Exception e) {
+                log.warn("작업 {} lease 반납 실패 (만료 후 자동 해제): {}", jobName, e.getMessage());
+            }
+        }
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    private static String resolveOwner() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdown();
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.time.format.DateTimeFormatter;
@@ -43,6 +44,9 @@ public class DebateRoomService {
     @Autowired
     private DebateService debateService;
 
+    @Autowired
+    private ClusterJobLock clusterJobLock;
+
     @Transactional(readOnly = true)
     public List<DebateRoomDto> getAllDebateRooms() {
         // 모든 토론방을 가져와서 DTO로 변환
@@ -468,8 +472,13 @@ public class DebateRoomService {
     }
 
     // 삭제 예정된 방 처리를 위한 스케줄러
-    @Scheduled(fixedRate = 60000) // 1분마다 실행
+    @Scheduled(fixedRate = 60000) // 1분마다 실행 (여러 인스턴스 중 한 곳에서만)
     public void cleanupScheduledRooms() {
+        clusterJobLock.runExclusively("debate-room-cleanup", Duration.ofMinutes(2), Duration.ofSeconds(30),
+                this::deleteExpiredRooms);
+    }
+
+    private void deleteExpiredRooms() {
         List<DebateRoom> scheduledRooms = debateRoomRepository.findByScheduledForDeletionTrue();
         LocalDateTime now = LocalDateTime.now();
         
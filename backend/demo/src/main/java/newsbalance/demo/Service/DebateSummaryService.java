@@ -0,0 +1,147 @@
+package newsbalance.demo.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import newsbalance.demo.Configuration.AnalysisConfig;
+import newsbalance.demo.DTO.DebateSummaryEvent;
+import newsbalance.demo.DTO.DebateSummaryEvent.Status;
+import newsbalance.demo.DTO.SummarizeMessageRequestDTO;
+import newsbalance.demo.DTO.SummarizeMessageResponseDTO;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+
+// 토론 발언 요약 (Flask /debate/summarize)
+// 같은 방의 같은 발언은 관전자가 몇 명이 요청하든 한 번만 요약하고 결과를 캐시에서 돌려줌
+// 캐시에 없으면 바로 PENDING 을 돌려주고, 요약이 끝나면 /topic/summary/{roomId} 로 결과를 보냄
+// (요약 호출 수가 관전자 수가 아니라 토론에서 나온 발언 수에 비례)
+@Slf4j
+@Service
+public class DebateSummaryService {
+
+    // 실패한 요약은 잠깐만 기억해 두고, 그 뒤 요청에서 다시 시도
+    private static final Duration FAILURE_TTL = Duration.ofSeconds(30);
+
+    private final AnalysisClient analysisClient;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // "방 ID:발언 해시" -> 요약 결과
+    private final Cache<String, SummarizeMessageResponseDTO> summaries;
+    private final Cache<String, Boolean> failures;
+    // 요약이 진행 중인 키 (같은 발언은 동시에 하나만 요약)
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor;
+
+    public DebateSummaryService(AnalysisClient analysisClient,
+                                SimpMessagingTemplate messagingTemplate,
+                                AnalysisConfig config) {
+        this.analysisClient = analysisClient;
+        this.messagingTemplate = messagingTemplate;
+        this.summaries = Caffeine.newBuilder()
+                .maximumSize(config.getDebateSummaryCacheSize())
+                .expireAfterWrite(config.getDebateSummaryCacheTtl())
+                .build();
+        this.failures = Caffeine.newBuilder()
+                .expireAfterWrite(FAILURE_TTL)
+                .build();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, config.getDebateSummaryConcurrency()));
+    }
+
+    // 캐시에 있으면 COMPLETED, 없으면 (진행 중이 아니면 요약을 시작하고) PENDING
+    // 최근에 실패한 발언이면 FAILED
+    public DebateSummaryEvent request(SummarizeMessageRequestDTO request) {
+        String key = keyOf(request.getMessages());
+        DebateSummaryEvent current = getStatus(request.getRoomId(), key);
+        if (current != null) {
+            return current;
+        }
+
+        String cacheKey = cacheKey(request.getRoomId(), key);
+        if (inFlight.add(cacheKey)) {
+            try {
+                executor.execute(() -> summarize(request, key, cacheKey));
+            } catch (RejectedExecutionException e) {
+                inFlight.remove(cacheKey);
+                return new DebateSummaryEvent(request.getRoomId(), key, Status.FAILED, null);
+            }
+        }
+        return new DebateSummaryEvent(request.getRoomId(), key, Status.PENDING, null);
+    }
+
+    // 알 수 없는 (만료되었거나 요청된 적 없는) 작업이면 null
+    public DebateSummaryEvent getStatus(Long roomId, String key) {
+        String cacheKey = cacheKey(roomId, key);
+        SummarizeMessageResponseDTO summary = summaries.getIfPresent(cacheKey);
+        if (summary != null) {
+            return new DebateSummaryEvent(roomId, key, Status.COMPLETED, summary);
+        }
+        if (inFlight.contains(cacheKey)) {
+            return new DebateSummaryEvent(roomId, key, Status.PENDING, null);
+        }
+        if (failures.getIfPresent(cacheKey) != null) {
+            return new DebateSummaryEvent(roomId, key, Status.FAILED, null);
+        }
+        return null;
+    }
+
+    private void summarize(SummarizeMessageRequestDTO request, String key, String cacheKey) {
+        DebateSummaryEvent event;
+        try {
+            Map<String, Object> requestMap = new HashMap<>();
+            requestMap.put("roomId", request.getRoomId());
+            requestMap.put("messages", request.getMessages());
+
+            SummarizeMessageResponseDTO summary = analysisClient.summarizeDebate(requestMap);
+            summary.setRoomId(request.getRoomId());
+            summaries.put(cacheKey, summary);
+            event = new DebateSummaryEvent(request.getRoomId(), key, Status.COMPLETED, summary);
+        } catch (Exception e) {
+            log.warn("토론 {} 발언 요약 실패: {}", request.getRoomId(), e.getMessage());
+            failures.put(cacheKey, Boolean.TRUE);
+            event = new DebateSummaryEvent(request.getRoomId(), key, Status.FAILED, null);
+        } finally {
+            // 결과를 캐시에 넣은 뒤 제거해야 그 사이 상태 조회가 요청된 적 없는 작업으로 보이지 않음
+            inFlight.remove(cacheKey);
+        }
+
+        try {
+            messagingTemplate.convertAndSend("/topic/summary/" + request.getRoomId(), event);
+        } catch (Exception e) {
+            log.debug("토론 {} 요약 결과 전송 실패: {}", request.getRoomId(), e.getMessage());
+        }
+    }
+
+    // 발언(화자 + 내용)의 SHA-256 앞 16바이트
+    // 클라이언트가 메시지 ID 없이 발언 내용만 보내므로 내용 해시를 캐시 키로 사용
+    static String keyOf(SummarizeMessageRequestDTO.clientMessageDTO message) {
+        String speaker = message == null || message.getSpeaker() == null ? "" : message.getSpeaker();
+        String text = message == null || message.getText() == null ? "" : message.getText();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((speaker + "\n" + text).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String cacheKey(Long roomId, String key) {
+        return roomId + ":" + key;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
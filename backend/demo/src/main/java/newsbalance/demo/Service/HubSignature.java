@@ -0,0 +1,56 @@
+package newsbalance.demo.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+
+// PubSubHubbub(WebSub) 알림의 X-Hub-Signature ("sha1=<hex>") 검증
+// 허브는 구독 시 받은 hub.secret 으로 본문 원본 바이트의 HMAC 을 보냄
+public final class HubSignature {
+
+    private static final Map<String, String> ALGORITHMS = Map.of(
+            "sha1", "HmacSHA1",
+            "sha256", "HmacSHA256",
+            "sha384", "HmacSHA384",
+            "sha512", "HmacSHA512");
+
+    private HubSignature() {
+    }
+
+    // 헤더가 없거나 형식 / 알고리즘이 맞지 않으면 false
+    public static boolean matches(String secret, byte[] body, String header) {
+        if (header == null) {
+            return false;
+        }
+        int separator = header.indexOf('=');
+        if (separator < 0) {
+            return false;
+        }
+        String algorithm = ALGORITHMS.get(header.substring(0, separator).trim().toLowerCase(Locale.ROOT));
+        if (algorithm == null) {
+            return false;
+        }
+        byte[] expected;
+        try {
+            expected = HexFormat.of().parseHex(header.substring(separator + 1).trim());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return MessageDigest.isEqual(expected, hmac(algorithm, secret, body));
+    }
+
+    static byte[] hmac(String algorithm, String secret, byte[] body) {
+        try {
+            Mac mac = Mac.getInstance(algorithm);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), algorithm));
+            return mac.doFinal(body);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 계산 실패: " + algorithm, e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package newsbalance.demo.Service;
+
+import lombok.RequiredArgsConstructor;
+import newsbalance.demo.Entity.WorkItemType;
+import org.springframework.stereotype.Component;
+
+// 수집에 실패한 채널만 따로 재수집
+@Component
+@RequiredArgsConstructor
+public class IngestChannelWorkItemHandler implements WorkItemHandler {
+
+    private final YouTubeService youTubeService;
+
+    @Override
+    public WorkItemType type() {
+        return WorkItemType.INGEST_CHANNEL;
+    }
+
+    @Override
+    public void handle(String channelId) {
+        youTubeService.ingestChannel(channelId);
+    }
+}
@@ -0,0 +1,23 @@
+package newsbalance.demo.Service;
+
+import lombok.RequiredArgsConstructor;
+import newsbalance.demo.Entity.WorkItemType;
+import org.springframework.stereotype.Component;
+
+// 푸시 알림 영상 수집 재시도
+@Component
+@RequiredArgsConstructor
+public class IngestVideoWorkItemHandler implements WorkItemHandler {
+
+    private final YouTubeService youTubeService;
+
+    @Override
+    public WorkItemType type() {
+        return WorkItemType.INGEST_VIDEO;
+    }
+
+    @Override
+    public void handle(String videoId) {
+        youTubeService.fetchVideoById(videoId);
+    }
+}
@@ -0,0 +1,119 @@
+package newsbalance.demo.Service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import newsbalance.demo.Configuration.YouTubeConfig;
+import newsbalance.demo.DTO.FeedEntry;
+import newsbalance.demo.Entity.WorkItemType;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 푸시 알림으로 들어온 영상을 요청 스레드와 분리된 작업 큐에서 개별 수집
+// 같은 영상에 대한 알림은 pushCoalesceWindow 동안 모아 한 번만 수집
+// 영상 ID 형식이 아니거나 수집 대상 채널(youtube.channel-ids)이 아닌 알림은 버림
+@Slf4j
+@Service
+public class PubSubNotificationService {
+
+    private static final int WORKER_THREADS = 2;
+    private static final int QUEUE_CAPACITY = 1000;
+
+    private final YouTubeService youtubeService;
+    private final WorkItemService workItemService;
+    private final YouTubeConfig config;
+
+    private final ExecutorService executor = new ThreadPoolExecutor(
+            WORKER_THREADS, WORKER_THREADS, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(QUEUE_CAPACITY));
+
+    // 대기 구간이 끝나면 수집 작업을 큐에 넣는 스케줄러
+    private final ScheduledExecutorService debouncer = Executors.newSingleThreadScheduledExecutor();
+
+    // 대기 중인 알림 (videoId -> entry)
+    private final Map<String, FeedEntry> pending = new ConcurrentHashMap<>();
+
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong dispatched = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public PubSubNotificationService(YouTubeService youtubeService,
+                                     WorkItemService workItemService,
+                                     YouTubeConfig config) {
+        this.youtubeService = youtubeService;
+        this.workItemService = workItemService;
+        this.config = config;
+    }
+
+    public void submit(List<FeedEntry> entries) {
+        long windowMillis = config.getPushCoalesceWindow().toMillis();
+        for (FeedEntry entry : entries) {
+            received.incrementAndGet();
+            if (!YouTubeUrls.isVideoId(entry.videoId()) || !youtubeService.isTrackedChannel(entry.channelId())) {
+                rejected.incrementAndGet();
+                log.debug("수집 대상이 아닌 푸시 알림 무시: 영상 {} (채널 {})", entry.videoId(), entry.channelId());
+                continue;
+            }
+            if (pending.putIfAbsent(entry.videoId(), entry) != null) {
+                coalesced.incrementAndGet();
+                continue;
+            }
+            debouncer.schedule(() -> dispatch(entry.videoId()), windowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void dispatch(String videoId) {
+        FeedEntry entry = pending.remove(videoId);
+        if (entry == null) {
+            return;
+        }
+        try {
+            executor.execute(() -> ingest(entry));
+            dispatched.incrementAndGet();
+        } catch (RejectedExecutionException e) {
+            dropped.incrementAndGet();
+            log.warn("푸시 알림 작업 큐가 가득 차 영상 {} 수집을 재시도 작업으로 넘김", videoId);
+            workItemService.enqueue(WorkItemType.INGEST_VIDEO, videoId, e);
+        }
+    }
+
+    private void ingest(FeedEntry entry) {
+        try {
+            youtubeService.fetchVideoById(entry.videoId());
+        } catch (Exception e) {
+            log.warn("푸시 알림 영상 {} (채널 {}) 수집 실패: {}", entry.videoId(), entry.channelId(), e.getMessage());
+            workItemService.enqueue(WorkItemType.INGEST_VIDEO, entry.videoId(), e);
+        }
+    }
+
+    // 수신 / 거부 / 병합 / 실제 수집 요청 건수
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("received", received.get());
+        stats.put("rejected", rejected.get());
+        stats.put("coalesced", coalesced.get());
+        stats.put("dispatched", dispatched.get());
+        stats.put("dropped", dropped.get());
+        stats.put("pending", (long) pending.size());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        debouncer.shutdown();
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,8 @@
+package newsbalance.demo.Service;
+
+// YouTube Data API 쿼터 예산이 부족해 호출을 보내지 않은 경우
+public class QuotaExceededException extends RuntimeException {
+    public QuotaExceededException(String message) {
+        super(message);
+    }
+}
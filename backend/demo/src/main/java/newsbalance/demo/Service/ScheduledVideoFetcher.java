@@ -1,19 +1,31 @@
 package newsbalance.demo.Service;
 
+import newsbalance.demo.Configuration.YouTubeConfig;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 public class ScheduledVideoFetcher {
 
     private final YouTubeService youtubeService;
+    private final ClusterJobLock clusterJobLock;
+    private final YouTubeConfig config;
 
-    public ScheduledVideoFetcher(YouTubeService youtubeService) {
+    public ScheduledVideoFetcher(YouTubeService youtubeService, ClusterJobLock clusterJobLock, YouTubeConfig config) {
         this.youtubeService = youtubeService;
+        this.clusterJobLock = clusterJobLock;
+        this.config = config;
     }
 
-    @Scheduled(cron = "0 0 1 * * ?") // 매일 1시 실행
+    @Scheduled(cron = "0 0 1 * * ?") // 매일 1시 실행 (여러 인스턴스 중 한 곳에서만)
     public void run() {
-        youtubeService.fetchRecentVideos();
+        // 적응형 수집을 쓰면 채널별 일정(AdaptiveChannelPoller)으로 대체
+        if (config.isAdaptivePolling()) {
+            return;
+        }
+        clusterJobLock.runExclusively("video-fetch", Duration.ofMinutes(5), Duration.ofHours(1),
+                youtubeService::fetchRecentVideos);
     }
-}
\ No newline at end of file
+}
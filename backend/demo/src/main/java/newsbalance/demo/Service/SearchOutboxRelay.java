@@ -0,0 +1,123 @@
+package newsbalance.demo.Service;
+
+import lombok.extern.slf4j.Slf4j;
+import newsbalance.demo.Entity.SearchOutboxEvent;
+import newsbalance.demo.Entity.YoutubeContent;
+import newsbalance.demo.Repository.Elasticsearch.YoutubeContentElasticRepository;
+import newsbalance.demo.Repository.JPA.SearchOutboxRepository;
+import newsbalance.demo.Repository.JPA.YoutubeContentRepository;
+import org.hibernate.Hibernate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+// search_outbox 를 Elasticsearch 로 비우는 relay
+// 1) 보낼 항목을 SKIP LOCKED 로 점유하고 바로 커밋 (ES 호출 동안 DB 트랜잭션을 잡지 않음)
+// 2) 문서 ID 별로 합쳐 DB 현재 상태를 읽고, 있으면 bulk 색인 / 없으면 bulk 삭제
+// 3) 성공하면 항목 삭제, 실패하면 백오프 후 재시도 (ES 가 복구되면 결국 DB 와 같아짐)
+@Slf4j
+@Service
+public class SearchOutboxRelay {
+
+    private static final int BATCH_SIZE = 200;
+    private static final int MAX_BATCHES_PER_RUN = 10;
+    // 점유 후 이 시간 안에 처리 결과가 반영되지 않으면 (relay 가 죽은 경우) 다시 보냄
+    private static final Duration LEASE = Duration.ofMinutes(2);
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(5);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(10);
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final SearchOutboxRepository outboxRepository;
+    private final YoutubeContentRepository contentRepository;
+    private final YoutubeContentElasticRepository elasticRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public SearchOutboxRelay(SearchOutboxRepository outboxRepository,
+                             YoutubeContentRepository contentRepository,
+                             YoutubeContentElasticRepository elasticRepository,
+                             TransactionTemplate transactionTemplate) {
+        this.outboxRepository = outboxRepository;
+        this.contentRepository = contentRepository;
+        this.elasticRepository = elasticRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Scheduled(fixedDelay = 2_000, initialDelay = 20_000)
+    public void relay() {
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            if (relayBatch() < BATCH_SIZE) {
+                return;
+            }
+        }
+    }
+
+    // 처리한 항목 수를 반환
+    private int relayBatch() {
+        List<SearchOutboxEvent> claimed = transactionTemplate.execute(status -> claim());
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+        List<Long> eventIds = claimed.stream().map(SearchOutboxEvent::getId).toList();
+        Set<Integer> documentIds = claimed.stream()
+                .map(SearchOutboxEvent::getDocumentId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        try {
+            List<YoutubeContent> current = transactionTemplate.execute(status -> loadCurrent(documentIds));
+            Set<Integer> deleted = new HashSet<>(documentIds);
+            current.forEach(content -> deleted.remove(content.getId()));
+
+            if (!current.isEmpty()) {
+                elasticRepository.saveAll(current);
+            }
+            if (!deleted.isEmpty()) {
+                elasticRepository.deleteAllById(deleted);
+            }
+            outboxRepository.deleteAllByIdInBatch(eventIds);
+            log.debug("검색 색인 동기화: 색인 {}건, 삭제 {}건 (outbox {}건)", current.size(), deleted.size(), claimed.size());
+        } catch (Exception e) {
+            log.warn("검색 색인 동기화 실패 (outbox {}건), 재시도 예약: {}", claimed.size(), e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> reschedule(eventIds, e));
+        }
+        return claimed.size();
+    }
+
+    private List<SearchOutboxEvent> claim() {
+        LocalDateTime now = LocalDateTime.now();
+        List<SearchOutboxEvent> events = outboxRepository.lockDue(now, BATCH_SIZE);
+        events.forEach(event -> {
+            event.setAttempts(event.getAttempts() + 1);
+            event.setNextAttemptAt(now.plus(LEASE));
+        });
+        return events;
+    }
+
+    // ES 문서에 들어가는 keywords 는 지연 로딩 컬렉션이라 트랜잭션 안에서 읽어 둠
+    private List<YoutubeContent> loadCurrent(Collection<Integer> documentIds) {
+        List<YoutubeContent> contents = contentRepository.findAllById(documentIds);
+        contents.forEach(content -> Hibernate.initialize(content.getKeywords()));
+        return contents;
+    }
+
+    private void reschedule(List<Long> eventIds, Exception cause) {
+        LocalDateTime now = LocalDateTime.now();
+        outboxRepository.findAllById(eventIds).forEach(event -> {
+            event.setNextAttemptAt(now.plus(backoff(event.getAttempts())));
+            event.setLastError(truncate(cause.toString()));
+        });
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = BASE_BACKOFF.multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 20));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    private String truncate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -0,0 +1,117 @@
+package newsbalance.demo.Service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import newsbalance.demo.Configuration.AnalysisConfig;
+import newsbalance.demo.DTO.Request.YoutubeContentRequestDTO;
+import newsbalance.demo.DTO.SummarizeBatchResponseDTO;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+// 일괄 분석 요청을 모아 Flask /summarize/batch 한 번으로 보내고, 영상별 결과를 각 호출자의 future 로 나눠 줌
+// batchSize 개가 모이면 바로, 덜 모였으면 첫 요청 후 batchLinger 가 지나면 보냄
+// (영상마다 HTTP 요청 / 모델 호출을 따로 하는 비용을 묶음 단위로 나눔)
+@Slf4j
+@Service
+public class SummarizeBatcher {
+
+    private final AnalysisClient analysisClient;
+    private final AnalysisConfig config;
+
+    // 같은 URL 이 한 묶음 안에서 여러 번 요청되면 결과를 함께 받음
+    private Map<String, List<CompletableFuture<YoutubeContentRequestDTO>>> buffer = new LinkedHashMap<>();
+    private ScheduledFuture<?> lingerFlush;
+
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor();
+    // 동시에 보내는 묶음 수 제한 (나머지 묶음은 대기)
+    private final ExecutorService sender;
+
+    public SummarizeBatcher(AnalysisClient analysisClient, AnalysisConfig config) {
+        this.analysisClient = analysisClient;
+        this.config = config;
+        this.sender = Executors.newFixedThreadPool(Math.max(1, config.getBatchConcurrency()));
+    }
+
+    public boolean isEnabled() {
+        return config.getBatchSize() > 1;
+    }
+
+    public synchronized CompletableFuture<YoutubeContentRequestDTO> submit(String url) {
+        CompletableFuture<YoutubeContentRequestDTO> future = new CompletableFuture<>();
+        buffer.computeIfAbsent(url, key -> new ArrayList<>()).add(future);
+
+        if (buffer.size() >= config.getBatchSize()) {
+            flush();
+        } else if (lingerFlush == null) {
+            lingerFlush = timer.schedule(this::flushLingering, config.getBatchLinger().toMillis(), TimeUnit.MILLISECONDS);
+        }
+        return future;
+    }
+
+    private synchronized void flushLingering() {
+        lingerFlush = null;
+        flush();
+    }
+
+    // 호출 시 lock 을 잡고 있어야 함
+    private void flush() {
+        if (lingerFlush != null) {
+            lingerFlush.cancel(false);
+            lingerFlush = null;
+        }
+        if (buffer.isEmpty()) {
+            return;
+        }
+        Map<String, List<CompletableFuture<YoutubeContentRequestDTO>>> batch = buffer;
+        buffer = new LinkedHashMap<>();
+        try {
+            sender.execute(() -> send(batch));
+        } catch (RejectedExecutionException e) {
+            failAll(batch, new AnalysisUnavailableException("일괄 요약 전송 중단 (종료 중)", e));
+        }
+    }
+
+    private void send(Map<String, List<CompletableFuture<YoutubeContentRequestDTO>>> batch) {
+        SummarizeBatchResponseDTO response;
+        try {
+            response = analysisClient.summarizeVideos(new ArrayList<>(batch.keySet()));
+        } catch (RuntimeException e) {
+            failAll(batch, e);
+            return;
+        }
+
+        List<SummarizeBatchResponseDTO.Item> results = response.getResults() == null ? List.of() : response.getResults();
+        for (SummarizeBatchResponseDTO.Item item : results) {
+            List<CompletableFuture<YoutubeContentRequestDTO>> futures = batch.remove(item.getUrl());
+            if (futures == null) {
+                continue;
+            }
+            if (item.getStatus() >= 200 && item.getStatus() < 300 && item.getResult() != null) {
+                futures.forEach(future -> future.complete(item.getResult()));
+            } else {
+                AnalysisUnavailableException error = new AnalysisUnavailableException(
+                        "분석 서버 오류: " + item.getStatus() + " " + item.getUrl() + " / " + item.getError());
+                futures.forEach(future -> future.completeExceptionally(error));
+            }
+        }
+
+        // 응답에 빠진 URL
+        if (!batch.isEmpty()) {
+            log.warn("일괄 요약 응답에 없는 URL {}건", batch.size());
+            failAll(batch, new AnalysisUnavailableException("일괄 요약 응답에 결과 없음"));
+        }
+    }
+
+    private static void failAll(Map<String, List<CompletableFuture<YoutubeContentRequestDTO>>> batch, Throwable error) {
+        batch.values().forEach(futures -> futures.forEach(future -> future.completeExceptionally(error)));
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        flush();
+        timer.shutdown();
+        sender.shutdown();
+    }
+}
@@ -0,0 +1,106 @@
+package newsbalance.demo.Service;
+
+import lombok.extern.slf4j.Slf4j;
+import newsbalance.demo.DTO.Request.RelatedArticleDTO;
+import newsbalance.demo.DTO.Request.SummarySentenceDTO;
+import newsbalance.demo.DTO.Request.YoutubeContentRequestDTO;
+import newsbalance.demo.Entity.YoutubeContent;
+import newsbalance.demo.Repository.VideoFingerprint;
+import newsbalance.demo.Repository.JPA.YouTubeVideoRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 분석 서버 호출 전 자막 지문으로 같은 내용의 영상을 찾아 기존 분석 결과를 재사용
+// 뉴스 채널이 같은 꼭지를 다른 URL 로 다시 올리는 경우가 많아, 자막이 거의 같은(SimHash 해밍 거리 3 이하) 영상이
+// 이미 분석돼 있으면 그 결과를 이 URL 로 복사해 저장하고 분석 서버는 호출하지 않음
+@Slf4j
+@Service
+public class TranscriptDedupService {
+
+    private final YouTubeVideoRepository videoRepo;
+    private final YoutubeContentService youtubeContentService;
+
+    private final AtomicLong checked = new AtomicLong();
+    private final AtomicLong reused = new AtomicLong();
+
+    public TranscriptDedupService(YouTubeVideoRepository videoRepo, YoutubeContentService youtubeContentService) {
+        this.videoRepo = videoRepo;
+        this.youtubeContentService = youtubeContentService;
+    }
+
+    // 재사용해서 저장했거나 이 URL 의 분석 결과가 이미 있으면 true (자막 지문이 없거나 분석된 중복 영상이 없으면 false)
+    // 이미 결과가 있는 URL 에는 복사하지 않음 (강제 재분석은 호출하지 않음)
+    public boolean reuseExistingAnalysis(String videoUrl) {
+        if (youtubeContentService.getYoutubecontent(videoUrl).isPresent()) {
+            return true;
+        }
+        Optional<VideoFingerprint> target = videoRepo.findFingerprintByVideoUrl(videoUrl).stream()
+                .filter(fingerprint -> fingerprint.getCaptionSimhash() != null)
+                .findFirst();
+        if (target.isEmpty()) {
+            return false;
+        }
+        checked.incrementAndGet();
+
+        VideoFingerprint video = target.get();
+        Optional<YoutubeContent> source = findAnalyzedDuplicate(video);
+        if (source.isEmpty()) {
+            return false;
+        }
+
+        YoutubeContent original = source.get();
+        // 일괄 분석 대상 목록(YouTubeService)과 같은 방식으로 게시 시각 변환
+        Long publishedAt = video.getPublishedAt() == null ? 0L
+                : video.getPublishedAt().atZone(ZoneId.systemDefault()).toEpochSecond();
+        youtubeContentService.saveContent(copyOf(original, videoUrl), video.getTitle(), publishedAt);
+        reused.incrementAndGet();
+        log.info("자막이 같은 영상의 분석 결과 재사용: {} <- {}", videoUrl, original.getVideoUrl());
+        return true;
+    }
+
+    // 가까운 영상부터 확인해 분석 결과가 있는 첫 영상의 결과
+    private Optional<YoutubeContent> findAnalyzedDuplicate(VideoFingerprint video) {
+        long simhash = video.getCaptionSimhash();
+        return videoRepo.findFingerprintCandidates(video.getVideoId(),
+                        TranscriptFingerprint.band(simhash, 0), TranscriptFingerprint.band(simhash, 1),
+                        TranscriptFingerprint.band(simhash, 2), TranscriptFingerprint.band(simhash, 3))
+                .stream()
+                .filter(candidate -> candidate.getCaptionSimhash() != null)
+                .filter(candidate -> TranscriptFingerprint.distance(simhash, candidate.getCaptionSimhash())
+                        <= TranscriptFingerprint.MAX_DISTANCE)
+                .sorted(Comparator.comparingInt(candidate ->
+                        TranscriptFingerprint.distance(simhash, candidate.getCaptionSimhash())))
+                .map(candidate -> youtubeContentService.getYoutubecontent(candidate.getVideoUrl()))
+                .flatMap(Optional::stream)
+                .findFirst();
+    }
+
+    // saveContent 가 저장하는 항목(편향 점수, 요약 문장, 관련 기사)만 복사
+    private static YoutubeContentRequestDTO copyOf(YoutubeContent original, String videoUrl) {
+        YoutubeContentRequestDTO dto = new YoutubeContentRequestDTO();
+        dto.setUrl(videoUrl);
+        dto.setBiasScore(original.getBiasScore());
+        dto.setSummarySentences(new ArrayList<>(original.getSentencesScore().stream()
+                .map(sentence -> new SummarySentenceDTO(sentence.getContent(), sentence.getScore()))
+                .toList()));
+        dto.setRelatedArticles(new ArrayList<>(original.getRelatedArticles().stream()
+                .map(article -> new RelatedArticleDTO(article.getLink(), article.getTitle()))
+                .toList()));
+        return dto;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("checked", checked.get());
+        stats.put("reused", reused.get());
+        return stats;
+    }
+}
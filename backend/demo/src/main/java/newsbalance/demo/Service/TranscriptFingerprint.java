@@ -0,0 +1,78 @@
+package newsbalance.demo.Service;
+
+// 자막 SimHash (64비트)
+// 공백 / 문장부호를 뺀 글자 4-gram 을 shingle 로 써서, 재업로드 영상처럼 앞뒤가 조금 잘리거나 자막 인식이 약간 달라도
+// 해밍 거리가 작게 나옴
+// 64비트를 16비트씩 4개 band 로 나눠 인덱스로 찾으면, 해밍 거리 3 이하인 쌍은 비둘기집 원리로 최소 한 band 가 같음
+public final class TranscriptFingerprint {
+
+    public static final int BANDS = 4;
+    // 이 거리 이하면 같은 내용으로 봄
+    public static final int MAX_DISTANCE = 3;
+
+    private static final int SHINGLE_LENGTH = 4;
+    // 너무 짧은 자막은 우연히 겹칠 수 있어 지문을 만들지 않음
+    private static final int MIN_LENGTH = 200;
+
+    private TranscriptFingerprint() {
+    }
+
+    // 자막이 없거나 너무 짧으면 null
+    public static Long simHash(String text) {
+        if (text == null) {
+            return null;
+        }
+        String normalized = normalize(text);
+        if (normalized.length() < MIN_LENGTH) {
+            return null;
+        }
+
+        int[] weights = new int[64];
+        for (int start = 0; start + SHINGLE_LENGTH <= normalized.length(); start++) {
+            long hash = hash(normalized, start, start + SHINGLE_LENGTH);
+            for (int bit = 0; bit < 64; bit++) {
+                weights[bit] += ((hash >>> bit) & 1L) == 1L ? 1 : -1;
+            }
+        }
+
+        long fingerprint = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    public static int band(long fingerprint, int index) {
+        return (int) ((fingerprint >>> (16 * index)) & 0xFFFF);
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    private static String normalize(String text) {
+        StringBuilder normalized = new StringBuilder(text.length());
+        text.codePoints()
+                .filter(Character::isLetterOrDigit)
+                .map(Character::toLowerCase)
+                .forEach(normalized::appendCodePoint);
+        return normalized.toString();
+    }
+
+    // FNV-1a 후 비트를 고르게 섞음 (murmur3 fmix64)
+    private static long hash(String text, int from, int to) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = from; i < to; i++) {
+            hash ^= text.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,113 @@
+package newsbalance.demo.Service;
+
+import lombok.RequiredArgsConstructor;
+import newsbalance.demo.DTO.Request.YoutubeContentRequestDTO;
+import newsbalance.demo.DTO.UrlContentRequestDTO;
+import newsbalance.demo.Entity.VideoInfo;
+import newsbalance.demo.Entity.YoutubeContent;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 영상 한 건을 분석 서버(Flask /summarize)에 보내고 결과를 저장
+@Service
+@RequiredArgsConstructor
+public class VideoAnalysisService {
+
+    private final AnalysisClient analysisClient;
+    private final SummarizeBatcher summarizeBatcher;
+    private final YoutubeContentService youtubeContentService;
+    private final TranscriptDedupService transcriptDedupService;
+
+    // 정규화한 URL 별 진행 중인 분석 (같은 URL 동시 요청은 먼저 시작한 분석 하나만 기다림)
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    // 분석 서버 오류나 빈 응답이면 예외를 던짐 (호출 측에서 재시도 등록)
+    // 일괄 분석용 커넥션 풀을 사용하므로 사용자 요청과 연결을 나눠 쓰지 않음
+    // 묶음 전송을 켜면 다른 작업자의 요청과 함께 /summarize/batch 로 보내고 이 영상 결과만 기다림
+    // 자막이 거의 같은 영상이 이미 분석돼 있으면 분석 서버를 호출하지 않고 그 결과를 재사용
+    // 같은 영상을 사용자 요청(analyzeUrl)이 분석 중이면 새로 분석하지 않고 그 분석이 끝나기를 기다림
+    // 대상 목록을 만든 뒤 다른 요청이 먼저 분석을 끝냈으면 다시 분석하지 않음 (force 면 기존 결과를 새 분석으로 교체)
+    public void analyze(VideoInfo info, boolean force) {
+        String url = YouTubeUrls.normalize(info.videoUrl());
+        runOnce(url, () -> {
+            if (!force && youtubeContentService.getYoutubecontent(url).isPresent()) {
+                return;
+            }
+            // 강제 재분석은 비슷한 영상의 예전 결과를 복사하지 않고 실제로 다시 분석
+            if (!force && transcriptDedupService.reuseExistingAnalysis(url)) {
+                return;
+            }
+            YoutubeContentRequestDTO content = summarizeBatcher.isEnabled()
+                    ? await(summarizeBatcher.submit(url))
+                    : analysisClient.summarizeVideo(url);
+            youtubeContentService.saveContent(content, info.title(), info.publishedAt());
+        });
+    }
+
+    // 사용자가 보낸 링크 하나를 분석 (이미 분석된 영상이면 저장된 결과 반환)
+    // 같은 영상에 대한 동시 요청은 분석 서버 호출과 저장을 한 번만 하고, 나머지는 그 결과를 기다렸다가 다시 조회
+    // (완료 신호만 공유하고 결과는 각자 YoutubeContentService 캐시에서 조회)
+    public Optional<YoutubeContent> analyzeUrl(String rawUrl) {
+        String url = YouTubeUrls.normalize(rawUrl);
+        Optional<YoutubeContent> existing = youtubeContentService.getYoutubecontent(rawUrl);
+        if (existing.isPresent()) {
+            return existing;
+        }
+
+        runOnce(url, () -> {
+            // 앞선 분석이 조회와 등록 사이에 끝났을 수 있으므로 다시 확인
+            if (youtubeContentService.getYoutubecontent(url).isEmpty()) {
+                summarizeAndSave(url);
+            }
+        });
+        return youtubeContentService.getYoutubecontent(url);
+    }
+
+    // 정규화한 URL 당 분석 하나만 실행 (일괄 분석 / 사용자 요청 공통)
+    // 이미 진행 중이면 실행하지 않고 그 분석이 끝나기를 기다림 (실패하면 같은 예외로 실패)
+    private void runOnce(String url, Runnable analysis) {
+        CompletableFuture<Void> mine = new CompletableFuture<>();
+        CompletableFuture<Void> running = inFlight.putIfAbsent(url, mine);
+        if (running != null) {
+            await(running);
+            return;
+        }
+
+        try {
+            analysis.run();
+            mine.complete(null);
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(url, mine);
+        }
+    }
+
+    private void summarizeAndSave(String url) {
+        if (transcriptDedupService.reuseExistingAnalysis(url)) {
+            return;
+        }
+        UrlContentRequestDTO content = analysisClient.summarizeUrl(url);
+        // 이후 조회가 같은 키로 되도록 정규화한 URL 로 저장
+        content.setUrl(url);
+        youtubeContentService.saveUrlContent(content);
+    }
+
+    // future 가 실패하면 원래 예외로 실패 (먼저 시작한 분석 / 묶음 요약 결과 대기용)
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package newsbalance.demo.Service;
+
+import lombok.extern.slf4j.Slf4j;
+import newsbalance.demo.Configuration.YouTubeConfig;
+import newsbalance.demo.DTO.YouTube.VideoListResponse;
+import newsbalance.demo.Repository.JPA.YouTubeVideoRepository;
+import newsbalance.demo.Service.YouTubeApiGateway.Endpoint;
+import newsbalance.demo.Service.YouTubeApiGateway.Priority;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+// 조회수 / 좋아요 수 / 길이 보강
+// 영상 ID 를 모아 videos.list 한 번에 최대 50개씩 조회하고 (요청당 1 quota), 결과는 JDBC 배치 UPDATE 로 반영
+@Slf4j
+@Service
+public class VideoEnrichmentService {
+
+    // videos.list 의 id 파라미터 최대 개수
+    private static final int BATCH_SIZE = 50;
+
+    private static final String UPDATE_STATS_SQL =
+            "UPDATE youtube_videos SET view_count = ?, like_count = ?, duration_seconds = ?, stats_updated_at = ? " +
+                    "WHERE video_id = ?";
+
+    private final YouTubeApiGateway apiGateway;
+    private final YouTubeVideoRepository videoRepo;
+    private final JdbcTemplate jdbcTemplate;
+    private final ClusterJobLock clusterJobLock;
+    private final YouTubeConfig config;
+
+    // 수집 직후 들어온, 아직 보강하지 않은 영상 ID
+    private final Set<String> pending = new LinkedHashSet<>();
+
+    public VideoEnrichmentService(YouTubeApiGateway apiGateway,
+                                  YouTubeVideoRepository videoRepo,
+                                  JdbcTemplate jdbcTemplate,
+                                  ClusterJobLock clusterJobLock,
+                                  YouTubeConfig config) {
+        this.apiGateway = apiGateway;
+        this.videoRepo = videoRepo;
+        this.jdbcTemplate = jdbcTemplate;
+        this.clusterJobLock = clusterJobLock;
+        this.config = config;
+    }
+
+    public synchronized void enqueue(Collection<String> videoIds) {
+        pending.addAll(videoIds);
+    }
+
+    // 수집 후 쌓인 영상 ID 를 50개 단위로 보강 (남은 몇 개도 다음 주기까지 미루지 않고 함께 처리)
+    @Scheduled(fixedDelay = 30_000, initialDelay = 60_000)
+    public void flushPending() {
+        List<String> ids;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            ids = new ArrayList<>(pending);
+            pending.clear();
+        }
+        EnrichResult result = enrich(ids);
+        if (!result.deferred().isEmpty()) {
+            // 쿼터 부족으로 조회하지 못한 영상은 다음 주기에 다시 시도
+            synchronized (this) {
+                pending.addAll(result.deferred());
+            }
+        }
+        log.info("신규 영상 통계 보강: 대상 {}건, 반영 {}건, 다음 주기로 미룸 {}건",
+                ids.size(), result.updated(), result.deferred().size());
+    }
+
+    // 최근 영상의 조회수 / 좋아요 수를 주기적으로 갱신 (여러 인스턴스 중 한 곳에서만)
+    @Scheduled(fixedDelay = 6 * 60 * 60 * 1000, initialDelay = 10 * 60 * 1000)
+    public void refreshRecent() {
+        clusterJobLock.runExclusively("video-stats-refresh", Duration.ofMinutes(5), Duration.ofHours(1), () -> {
+            LocalDateTime since = LocalDateTime.now(ZoneOffset.UTC).minus(config.getStatsRefreshWindow());
+            List<String> ids = videoRepo.findIdsPublishedAfter(since);
+            EnrichResult result = enrich(ids);
+            // 남은 영상은 다음 갱신 주기에 다시 대상이 됨
+            log.info("최근 영상 통계 갱신: 대상 {}건, 반영 {}건, 쿼터 부족으로 건너뜀 {}건",
+                    ids.size(), result.updated(), result.deferred().size());
+        });
+    }
+
+    // updated: 반영된 행 수, deferred: 쿼터 부족으로 조회하지 못한 영상 ID
+    public record EnrichResult(int updated, List<String> deferred) {
+    }
+
+    // 50개씩 videos.list 를 호출
+    // 쿼터 부족이면 남은 묶음은 호출하지 않고 deferred 로 돌려줌 (호출 측에서 다음 주기로 미룸)
+    public EnrichResult enrich(List<String> videoIds) {
+        int updated = 0;
+        for (int from = 0; from < videoIds.size(); from += BATCH_SIZE) {
+            List<String> batch = videoIds.subList(from, Math.min(from + BATCH_SIZE, videoIds.size()));
+            try {
+                updated += enrichBatch(batch);
+            } catch (QuotaExceededException e) {
+                log.warn("쿼터 부족으로 통계 보강 중단: 남은 영상 {}건", videoIds.size() - from);
+                return new EnrichResult(updated, List.copyOf(videoIds.subList(from, videoIds.size())));
+            } catch (Exception e) {
+                log.warn("통계 보강 실패 ({}건): {}", batch.size(), e.getMessage());
+            }
+        }
+        return new EnrichResult(updated, List.of());
+    }
+
+    private int enrichBatch(List<String> batch) {
+        // id 로 조회할 때는 maxResults 를 함께 보낼 수 없음 (400)
+        String query = "part=statistics,contentDetails" +
+                "&id=" + String.join(",", batch);
+
+        VideoListResponse response = apiGateway.get(Endpoint.VIDEOS, query, Priority.BACKGROUND, VideoListResponse.class)
+                .block();
+        if (response == null || response.items() == null) {
+            return 0;
+        }
+
+        // 삭제 / 비공개 전환된 영상은 응답에서 빠지므로 기존 값을 그대로 둠
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(ZoneOffset.UTC));
+        List<Object[]> rows = new ArrayList<>();
+        for (VideoListResponse.Item item : response.items()) {
+            if (item.id() == null) {
+                continue;
+            }
+            VideoListResponse.Statistics stats = item.statistics();
+            VideoListResponse.ContentDetails details = item.contentDetails();
+            rows.add(new Object[]{
+                    stats != null ? stats.viewCount() : null,
+                    stats != null ? stats.likeCount() : null,
+                    details != null ? details.durationSeconds() : null,
+                    now,
+                    item.id()
+            });
+        }
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        return Arrays.stream(jdbcTemplate.batchUpdate(UPDATE_STATS_SQL, rows))
+                .map(count -> count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0))
+                .sum();
+    }
+}
@@ -0,0 +1,11 @@
+package newsbalance.demo.Service;
+
+import newsbalance.demo.Entity.WorkItemType;
+
+// 작업 종류별 처리기 (예외를 던지면 재시도 대상)
+public interface WorkItemHandler {
+
+    WorkItemType type();
+
+    void handle(String payload) throws Exception;
+}
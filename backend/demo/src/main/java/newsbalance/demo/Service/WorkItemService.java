@@ -0,0 +1,128 @@
+package newsbalance.demo.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import newsbalance.demo.Entity.WorkItem;
+import newsbalance.demo.Entity.WorkItemStatus;
+import newsbalance.demo.Entity.WorkItemType;
+import newsbalance.demo.Repository.JPA.WorkItemRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// 작업 큐 상태 전이 (등록 / 점유 / 완료 / 재시도 예약 / dead-letter)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkItemService {
+
+    private static final int DEFAULT_MAX_ATTEMPTS = 6;
+    private static final Duration BASE_BACKOFF = Duration.ofMinutes(1);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(6);
+    // 점유 후 이 시간 안에 완료/실패 처리가 없으면 다른 작업자가 다시 가져감
+    private static final Duration LEASE = Duration.ofMinutes(15);
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final WorkItemRepository workItemRepository;
+
+    // 같은 종류/내용의 항목이 이미 대기 중이면 새로 만들지 않음
+    // 확인 후 저장하면 동시에 실패한 호출끼리 중복 등록될 수 있어, 부분 unique 인덱스에 맡겨 한 번의 INSERT 로 처리
+    public void enqueue(WorkItemType type, String payload, Throwable cause) {
+        int inserted = workItemRepository.insertIfAbsent(type.name(), payload, DEFAULT_MAX_ATTEMPTS,
+                LocalDateTime.now().plus(BASE_BACKOFF), cause == null ? null : truncate(cause.toString()));
+        if (inserted > 0) {
+            log.info("재시도 작업 등록: {} {}", type, payload);
+        }
+    }
+
+    // 처리할 항목 하나를 점유 (없으면 empty)
+    @Transactional
+    public Optional<WorkItem> claimNext() {
+        LocalDateTime now = LocalDateTime.now();
+        List<WorkItem> items = workItemRepository.lockClaimable(now, 1);
+        if (items.isEmpty()) {
+            return Optional.empty();
+        }
+        WorkItem item = items.get(0);
+        item.setStatus(WorkItemStatus.RUNNING);
+        item.setAttempts(item.getAttempts() + 1);
+        item.setLockedUntil(now.plus(LEASE));
+        return Optional.of(item);
+    }
+
+    @Transactional
+    public void complete(Long id) {
+        workItemRepository.findById(id).ifPresent(item -> {
+            item.setStatus(WorkItemStatus.DONE);
+            item.setLockedUntil(null);
+            item.setLastError(null);
+        });
+    }
+
+    // 지수 백오프로 재시도 예약, 최대 횟수를 넘으면 DEAD
+    @Transactional
+    public void fail(Long id, Throwable cause) {
+        workItemRepository.findById(id).ifPresent(item -> {
+            item.setLockedUntil(null);
+            item.setLastError(truncate(cause.toString()));
+            if (item.getAttempts() >= item.getMaxAttempts()) {
+                item.setStatus(WorkItemStatus.DEAD);
+                log.warn("작업 {} ({} {}) 최대 재시도 초과로 DEAD 처리", id, item.getType(), item.getPayload());
+                return;
+            }
+            item.setStatus(WorkItemStatus.PENDING);
+            item.setNextAttemptAt(LocalDateTime.now().plus(backoff(item.getAttempts())));
+        });
+    }
+
+    // DEAD 항목을 재시도 횟수를 초기화해 다시 대기열로
+    // 같은 작업이 이미 다시 등록되어 대기 중이면 (unique 인덱스에 걸리므로) 이 항목은 DONE 으로 정리
+    @Transactional
+    public boolean requeue(Long id) {
+        return workItemRepository.findById(id)
+                .filter(item -> item.getStatus() == WorkItemStatus.DEAD)
+                .map(item -> {
+                    if (workItemRepository.existsByTypeAndPayloadAndStatusIn(item.getType(), item.getPayload(),
+                            EnumSet.of(WorkItemStatus.PENDING, WorkItemStatus.RUNNING))) {
+                        item.setStatus(WorkItemStatus.DONE);
+                        return true;
+                    }
+                    item.setStatus(WorkItemStatus.PENDING);
+                    item.setAttempts(0);
+                    item.setNextAttemptAt(LocalDateTime.now());
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    @Transactional(readOnly = true)
+    public List<WorkItem> getDeadItems(int limit) {
+        return workItemRepository.findByStatusOrderByUpdatedAtDesc(WorkItemStatus.DEAD, PageRequest.of(0, limit));
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        for (WorkItemStatus status : WorkItemStatus.values()) {
+            stats.put(status.name(), workItemRepository.countByStatus(status));
+        }
+        return stats;
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = BASE_BACKOFF.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    private String truncate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -0,0 +1,92 @@
+package newsbalance.demo.Service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import newsbalance.demo.Entity.WorkItem;
+import newsbalance.demo.Entity.WorkItemType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+// 작업 큐를 주기적으로 비우는 작업자
+// 점유는 SELECT ... FOR UPDATE SKIP LOCKED 라 여러 인스턴스가 동시에 돌아도 같은 항목을 중복 처리하지 않음
+// 분석 / 채널 수집은 몇 분씩 걸릴 수 있어 스케줄러 스레드에서는 점유만 하고, 처리는 전용 작업자 스레드에서 함
+// 빈 작업자 수만큼만 점유하므로 처리하지 못할 항목의 lease 를 미리 잡아두지 않음
+@Slf4j
+@Component
+public class WorkItemWorker {
+
+    private static final int WORKERS = 4;
+
+    private final WorkItemService workItemService;
+    private final Map<WorkItemType, WorkItemHandler> handlers = new EnumMap<>(WorkItemType.class);
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(WORKERS);
+    // 비어 있는 작업자 수
+    private final Semaphore idleWorkers = new Semaphore(WORKERS);
+
+    public WorkItemWorker(WorkItemService workItemService, List<WorkItemHandler> handlers) {
+        this.workItemService = workItemService;
+        handlers.forEach(handler -> this.handlers.put(handler.type(), handler));
+    }
+
+    @Scheduled(fixedDelay = 10_000, initialDelay = 30_000)
+    public void run() {
+        while (idleWorkers.tryAcquire()) {
+            Optional<WorkItem> claimed;
+            try {
+                claimed = workItemService.claimNext();
+            } catch (RuntimeException e) {
+                idleWorkers.release();
+                throw e;
+            }
+            if (claimed.isEmpty()) {
+                idleWorkers.release();
+                return;
+            }
+            WorkItem item = claimed.get();
+            try {
+                executor.execute(() -> {
+                    try {
+                        process(item);
+                    } finally {
+                        idleWorkers.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // 종료 중이면 lease 가 끝난 뒤 다른 인스턴스(또는 재시작 후)가 다시 가져감
+                idleWorkers.release();
+                return;
+            }
+        }
+    }
+
+    private void process(WorkItem item) {
+        WorkItemHandler handler = handlers.get(item.getType());
+        if (handler == null) {
+            workItemService.fail(item.getId(), new IllegalStateException("처리기가 없는 작업 종류: " + item.getType()));
+            return;
+        }
+        try {
+            handler.handle(item.getPayload());
+            workItemService.complete(item.getId());
+        } catch (Exception e) {
+            log.warn("작업 {} ({} {}) {}회차 실패: {}",
+                    item.getId(), item.getType(), item.getPayload(), item.getAttempts(), e.getMessage());
+            workItemService.fail(item.getId(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
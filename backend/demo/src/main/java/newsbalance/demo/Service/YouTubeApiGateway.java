@@ -0,0 +1,250 @@
+package newsbalance.demo.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import newsbalance.demo.Configuration.YouTubeClientMetrics;
+import newsbalance.demo.Configuration.YouTubeConfig;
+import newsbalance.demo.Entity.YouTubeQuotaUsage;
+import newsbalance.demo.Repository.JPA.YouTubeQuotaUsageRepository;
+import newsbalance.demo.Service.YouTubeResponseCache.CachedResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// 모든 YouTube Data API 호출이 거치는 관문
+// 엔드포인트별 쿼터 비용만큼 토큰 버킷에서 차감하고, 부족하면 호출 없이 QuotaExceededException 으로 실패
+// 사용량은 쿼터 일자별로 DB 에 주기적으로 기록하고, 버킷은 그날 이미 쓴 양을 뺀 만큼으로 제한
+// (재시작해도 새 하루치 쿼터로 시작하지 않음)
+@Slf4j
+@Service
+public class YouTubeApiGateway {
+
+    private static final String BASE_URL = "https://www.googleapis.com/youtube/v3/";
+    private static final long REFILL_PERIOD_NANOS = 24L * 60 * 60 * 1_000_000_000L;
+    // YouTube API 쿼터는 태평양 시간 자정에 초기화됨
+    private static final ZoneId QUOTA_ZONE = ZoneId.of("America/Los_Angeles");
+
+    // 엔드포인트별 쿼터 비용 (YouTube Data API v3 기준)
+    public enum Endpoint {
+        SEARCH("search", 100),
+        VIDEOS("videos", 1);
+
+        private final String path;
+        private final int cost;
+
+        Endpoint(String path, int cost) {
+            this.path = path;
+            this.cost = cost;
+        }
+
+        public int getCost() {
+            return cost;
+        }
+    }
+
+    // BACKGROUND 호출은 INTERACTIVE 용 예약분을 사용하지 못함
+    public enum Priority {
+        INTERACTIVE,
+        BACKGROUND
+    }
+
+    private final YouTubeConfig config;
+    private final WebClient webClient;
+    private final YouTubeResponseCache responseCache;
+    private final YouTubeQuotaUsageRepository usageRepo;
+    // 토큰 충전 기준 시각 (테스트에서 시간을 직접 진행시킬 수 있도록 주입)
+    private final LongSupplier nanoTime;
+
+    private double tokens;
+    private long lastRefillNanos;
+    // 차감했지만 아직 DB 에 기록하지 않은 사용량
+    private long unrecordedUnits;
+
+    private final Map<Endpoint, AtomicLong> spent = new EnumMap<>(Endpoint.class);
+    private final Map<Priority, AtomicLong> rejected = new EnumMap<>(Priority.class);
+
+    @Autowired
+    public YouTubeApiGateway(YouTubeConfig config,
+                             @Qualifier("youtubeWebClient") WebClient webClient,
+                             YouTubeResponseCache responseCache,
+                             YouTubeQuotaUsageRepository usageRepo) {
+        this(config, webClient, responseCache, usageRepo, System::nanoTime);
+    }
+
+    YouTubeApiGateway(YouTubeConfig config,
+                      WebClient webClient,
+                      YouTubeResponseCache responseCache,
+                      YouTubeQuotaUsageRepository usageRepo,
+                      LongSupplier nanoTime) {
+        this.config = config;
+        this.webClient = webClient;
+        this.responseCache = responseCache;
+        this.usageRepo = usageRepo;
+        this.nanoTime = nanoTime;
+        this.tokens = config.getDailyQuota();
+        this.lastRefillNanos = nanoTime.getAsLong();
+        for (Endpoint endpoint : Endpoint.values()) {
+            spent.put(endpoint, new AtomicLong());
+        }
+        for (Priority priority : Priority.values()) {
+            rejected.put(priority, new AtomicLong());
+        }
+    }
+
+    // query 는 key 를 제외한 쿼리 문자열 (예: "part=snippet&id=abc")
+    // 응답은 String 으로 모으지 않고 Jackson 디코더로 바로 responseType 레코드에 매핑
+    // 캐시에 유효한 응답이 있으면 쿼터 차감 없이 반환, 만료된 응답은 ETag 로 재검증
+    public <T> Mono<T> get(Endpoint endpoint, String query, Priority priority, Class<T> responseType) {
+        return Mono.defer(() -> {
+            String cacheKey = responseCache.key(endpoint, query);
+            if (responseCache.isReplayMode()) {
+                T replayed = responseCache.replay(cacheKey, responseType);
+                return replayed != null
+                        ? Mono.just(replayed)
+                        : Mono.error(new IllegalStateException("기록된 YouTube 응답이 없음: " + cacheKey));
+            }
+
+            CachedResponse cached = responseCache.lookup(cacheKey);
+            if (cached != null && cached.isFresh()) {
+                return Mono.just(responseType.cast(cached.body()));
+            }
+
+            if (!tryAcquire(endpoint.cost, priority)) {
+                rejected.get(priority).incrementAndGet();
+                return Mono.error(new QuotaExceededException(
+                        "YouTube API 쿼터 부족: " + endpoint.path + " (" + priority + ")"));
+            }
+            spent.get(endpoint).addAndGet(endpoint.cost);
+
+            String url = BASE_URL + endpoint.path + "?" + query + "&key=" + config.getApiKey();
+            WebClient.RequestHeadersSpec<?> request = webClient.get().uri(url);
+            if (cached != null && cached.etag() != null) {
+                request = request.header(HttpHeaders.IF_NONE_MATCH, cached.etag());
+            }
+            return request
+                    .exchangeToMono(response -> {
+                        if (response.statusCode().value() == HttpStatus.NOT_MODIFIED.value() && cached != null) {
+                            return response.releaseBody()
+                                    .then(Mono.fromSupplier(() ->
+                                            responseCache.revalidated(endpoint, cacheKey, cached, responseType)));
+                        }
+                        if (response.statusCode().is2xxSuccessful()) {
+                            String etag = response.headers().asHttpHeaders().getETag();
+                            return response.bodyToMono(responseType)
+                                    .doOnNext(body -> responseCache.store(endpoint, cacheKey, body, etag));
+                        }
+                        return response.<T>createError();
+                    })
+                    .doOnError(WebClientResponseException.Forbidden.class, this::onForbidden)
+                    .contextWrite(ctx -> ctx.put(YouTubeClientMetrics.REQUEST_START, System.nanoTime()));
+        });
+    }
+
+    private synchronized boolean tryAcquire(int cost, Priority priority) {
+        refill();
+        double floor = priority == Priority.BACKGROUND ? config.getInteractiveQuotaReserve() : 0;
+        if (tokens - cost < floor) {
+            return false;
+        }
+        tokens -= cost;
+        unrecordedUnits += cost;
+        return true;
+    }
+
+    // 시작할 때 그날 이미 쓴 사용량을 반영
+    @PostConstruct
+    void restoreUsage() {
+        syncUsage();
+    }
+
+    // 기록하지 않은 사용량을 DB 에 더하고, 남은 토큰을 (일일 쿼터 - 그날 전체 사용량) 이하로 맞춤
+    // DB 호출은 이 스케줄 스레드에서만 하므로 API 호출 경로(이벤트 루프)를 막지 않음
+    @Scheduled(fixedDelay = 10_000, initialDelay = 10_000)
+    public void syncUsage() {
+        LocalDate quotaDay = LocalDate.now(QUOTA_ZONE);
+        long units;
+        synchronized (this) {
+            units = unrecordedUnits;
+            unrecordedUnits = 0;
+        }
+        if (units > 0) {
+            try {
+                usageRepo.addUnits(quotaDay, units);
+            } catch (Exception e) {
+                synchronized (this) {
+                    unrecordedUnits += units;
+                }
+                log.warn("YouTube API 사용량 기록 실패 ({} units), 다음 주기에 다시 기록: {}", units, e.getMessage());
+                return;
+            }
+        }
+
+        try {
+            long used = usageRepo.findById(quotaDay).map(YouTubeQuotaUsage::getUnits).orElse(0L);
+            synchronized (this) {
+                refill();
+                tokens = Math.min(tokens, Math.max(0, config.getDailyQuota() - used));
+            }
+        } catch (Exception e) {
+            log.warn("YouTube API 사용량 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushUsage() {
+        syncUsage();
+    }
+
+    // 하루 동안 dailyQuota 만큼 균등하게 채움
+    private void refill() {
+        long now = nanoTime.getAsLong();
+        long capacity = config.getDailyQuota();
+        tokens = Math.min(capacity, tokens + (double) (now - lastRefillNanos) / REFILL_PERIOD_NANOS * capacity);
+        lastRefillNanos = now;
+    }
+
+    // 실제 API 쿼터가 소진된 경우 버킷을 비워 이후 호출을 미리 차단
+    private void onForbidden(WebClientResponseException e) {
+        if (e.getResponseBodyAsString().contains("quotaExceeded")) {
+            synchronized (this) {
+                tokens = 0;
+            }
+            log.warn("YouTube API 가 quotaExceeded 를 반환해 남은 쿼터를 0 으로 조정");
+        }
+    }
+
+    public synchronized long getRemainingQuota() {
+        refill();
+        return (long) tokens;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("dailyQuota", config.getDailyQuota());
+        stats.put("interactiveReserve", config.getInteractiveQuotaReserve());
+        stats.put("remaining", getRemainingQuota());
+        Map<String, Long> spentByEndpoint = new LinkedHashMap<>();
+        spent.forEach((endpoint, value) -> spentByEndpoint.put(endpoint.name(), value.get()));
+        stats.put("spent", spentByEndpoint);
+        Map<String, Long> rejectedByPriority = new LinkedHashMap<>();
+        rejected.forEach((priority, value) -> rejectedByPriority.put(priority.name(), value.get()));
+        stats.put("rejected", rejectedByPriority);
+        stats.put("cache", responseCache.getStats());
+        return stats;
+    }
+}
@@ -0,0 +1,70 @@
+package newsbalance.demo.Service;
+
+import newsbalance.demo.DTO.FeedEntry;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+// YouTube 푸시 알림(Atom) 을 스트리밍 방식으로 읽어 entry 의 yt:videoId / yt:channelId 만 추출
+public final class YouTubeFeedParser {
+
+    private static final String YT_NAMESPACE = "http://www.youtube.com/xml/schemas/2015";
+
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    private YouTubeFeedParser() {
+    }
+
+    public static List<FeedEntry> parse(String feedXml) throws XMLStreamException {
+        List<FeedEntry> entries = new ArrayList<>();
+        if (feedXml == null || feedXml.isBlank()) {
+            return entries;
+        }
+
+        XMLStreamReader reader = FACTORY.createXMLStreamReader(new StringReader(feedXml));
+        try {
+            boolean inEntry = false;
+            String videoId = null;
+            String channelId = null;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = reader.getLocalName();
+                    if ("entry".equals(name)) {
+                        inEntry = true;
+                        videoId = null;
+                        channelId = null;
+                    } else if (inEntry && YT_NAMESPACE.equals(reader.getNamespaceURI())) {
+                        if ("videoId".equals(name)) {
+                            videoId = reader.getElementText().trim();
+                        } else if ("channelId".equals(name)) {
+                            channelId = reader.getElementText().trim();
+                        }
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && "entry".equals(reader.getLocalName())) {
+                    if (videoId != null && !videoId.isEmpty()) {
+                        entries.add(new FeedEntry(videoId, channelId));
+                    }
+                    inEntry = false;
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return entries;
+    }
+
+    // 외부 엔티티/DTD 처리 비활성화 (XXE 방지)
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        return factory;
+    }
+}
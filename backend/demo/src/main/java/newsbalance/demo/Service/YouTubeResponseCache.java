@@ -0,0 +1,154 @@
+package newsbalance.demo.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import newsbalance.demo.Configuration.YouTubeConfig;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// YouTube 응답 캐시 (정규화된 쿼리 기준)
+// 메모리: LRU + 엔드포인트별 TTL, 만료된 항목은 ETag 로 재검증
+// 디스크: RECORD 모드에서 응답을 기록하고 REPLAY 모드에서 네트워크 없이 재생
+@Slf4j
+@Component
+public class YouTubeResponseCache {
+
+    public record CachedResponse(Object body, String etag, long expiresAtMillis) {
+        public boolean isFresh() {
+            return System.currentTimeMillis() < expiresAtMillis;
+        }
+    }
+
+    private final YouTubeConfig.Cache config;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, CachedResponse> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong revalidated = new AtomicLong();
+    private final AtomicLong replayed = new AtomicLong();
+
+    public YouTubeResponseCache(YouTubeConfig config, ObjectMapper objectMapper) {
+        this.config = config.getCache();
+        this.objectMapper = objectMapper;
+        int maxEntries = this.config.getMaxEntries();
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<String, CachedResponse>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    // 파라미터 순서와 key 값에 영향받지 않도록 정렬한 쿼리
+    public String key(YouTubeApiGateway.Endpoint endpoint, String query) {
+        String normalized = Arrays.stream(query.split("&"))
+                .filter(param -> !param.isEmpty() && !param.startsWith("key="))
+                .sorted()
+                .collect(Collectors.joining("&"));
+        return endpoint.name() + "?" + normalized;
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    public boolean isReplayMode() {
+        return config.getMode() == YouTubeConfig.Cache.Mode.REPLAY;
+    }
+
+    public CachedResponse lookup(String key) {
+        if (!config.isEnabled()) {
+            return null;
+        }
+        CachedResponse entry = entries.get(key);
+        if (entry != null && entry.isFresh()) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return entry;
+    }
+
+    public void store(YouTubeApiGateway.Endpoint endpoint, String key, Object body, String etag) {
+        if (config.isEnabled()) {
+            entries.put(key, new CachedResponse(body, etag, System.currentTimeMillis() + ttl(endpoint).toMillis()));
+        }
+        if (config.getMode() == YouTubeConfig.Cache.Mode.RECORD) {
+            record(key, body);
+        }
+    }
+
+    // 304 응답: 본문은 그대로 두고 만료 시각만 연장
+    public <T> T revalidated(YouTubeApiGateway.Endpoint endpoint, String key, CachedResponse entry, Class<T> type) {
+        revalidated.incrementAndGet();
+        entries.put(key, new CachedResponse(entry.body(), entry.etag(), System.currentTimeMillis() + ttl(endpoint).toMillis()));
+        return type.cast(entry.body());
+    }
+
+    // REPLAY 모드에서 기록된 응답 읽기 (없으면 null)
+    public <T> T replay(String key, Class<T> type) {
+        Path file = fileFor(key);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            T body = objectMapper.readValue(file.toFile(), type);
+            replayed.incrementAndGet();
+            return body;
+        } catch (IOException e) {
+            log.warn("기록된 YouTube 응답 읽기 실패 {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private void record(String key, Object body) {
+        Path file = fileFor(key);
+        try {
+            Files.createDirectories(file.getParent());
+            objectMapper.writeValue(file.toFile(), body);
+        } catch (IOException e) {
+            log.warn("YouTube 응답 기록 실패 {}: {}", file, e.getMessage());
+        }
+    }
+
+    private Path fileFor(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return Paths.get(config.getDirectory(), HexFormat.of().formatHex(digest) + ".json");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Duration ttl(YouTubeApiGateway.Endpoint endpoint) {
+        return endpoint == YouTubeApiGateway.Endpoint.SEARCH ? config.getSearchTtl() : config.getVideosTtl();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("mode", config.getMode());
+        stats.put("entries", entries.size());
+        stats.put("hits", hits.get());
+        stats.put("misses", misses.get());
+        stats.put("revalidated", revalidated.get());
+        stats.put("replayed", replayed.get());
+        return stats;
+    }
+}
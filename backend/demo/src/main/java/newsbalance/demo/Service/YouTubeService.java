@@ -1,28 +1,51 @@
 package newsbalance.demo.Service;
 
+import lombok.extern.slf4j.Slf4j;
 import newsbalance.demo.Configuration.YouTubeConfig;
+import newsbalance.demo.DTO.VideoItem;
+import newsbalance.demo.DTO.YouTube.SearchListResponse;
+import newsbalance.demo.DTO.YouTube.VideoListResponse;
+import newsbalance.demo.Entity.ChannelWatermark;
 import newsbalance.demo.Entity.VideoInfo;
 import newsbalance.demo.Entity.VideoTitleDoc;
+import newsbalance.demo.Entity.WorkItemType;
 import newsbalance.demo.Entity.YouTubeVideo;
 import newsbalance.demo.Repository.JPA.YoutubeContentRepository;
+import newsbalance.demo.Repository.UrlOnly;
 import newsbalance.demo.Repository.Elasticsearch.VideoTitleElasticRepository;
+import newsbalance.demo.Repository.JPA.ChannelWatermarkRepository;
 import newsbalance.demo.Repository.JPA.YouTubeVideoRepository;
-import org.json.JSONObject;
+import newsbalance.demo.Service.YouTubeApiGateway.Endpoint;
+import newsbalance.demo.Service.YouTubeApiGateway.Priority;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.OffsetDateTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 public class YouTubeService {
 
+    // 중복 조회 및 배치 저장 단위
+    private static final int PERSIST_PAGE_SIZE = 100;
+    // search.list 한 페이지 최대 크기
+    private static final int SEARCH_PAGE_SIZE = 50;
+
     // 수동 수집 및 자막 포함 저장, Elasticsearch 동기화
     @Autowired
     private final YouTubeVideoRepository videoRepo;
@@ -30,123 +53,335 @@ public class YouTubeService {
     private final VideoTitleElasticRepository elasticRepo;
     @Autowired
     private final YoutubeContentRepository contentRepo;
+    private final ChannelWatermarkRepository watermarkRepo;
 
     private final YouTubeConfig config;
+    private final YouTubeApiGateway apiGateway;
+    private final CaptionFetchService captionFetchService;
+    private final WorkItemService workItemService;
+    private final VideoEnrichmentService enrichmentService;
 
     public YouTubeService(YouTubeVideoRepository videoRepo,
                           VideoTitleElasticRepository elasticRepo,
                           YoutubeContentRepository contentRepo,
-                          YouTubeConfig config) {
+                          ChannelWatermarkRepository watermarkRepo,
+                          YouTubeConfig config,
+                          YouTubeApiGateway apiGateway,
+                          CaptionFetchService captionFetchService,
+                          WorkItemService workItemService,
+                          VideoEnrichmentService enrichmentService) {
         this.videoRepo = videoRepo;
         this.elasticRepo = elasticRepo;
         this.contentRepo = contentRepo;
+        this.watermarkRepo = watermarkRepo;
         this.config = config;
+        this.apiGateway = apiGateway;
+        this.captionFetchService = captionFetchService;
+        this.workItemService = workItemService;
+        this.enrichmentService = enrichmentService;
     }
 
     public void fetchRecentVideos() {
-        String apiKey = config.getApiKey();
         List<String> channelIds = config.getChannelIds();
 
-        // RFC3339 UTC Zulu 형식
-        String afterDate = LocalDate.now().minusMonths(3)
-                .atStartOfDay()
-                .atZone(java.time.ZoneId.of("UTC"))
+        Map<String, ChannelWatermark> watermarks = watermarkRepo.findAllById(channelIds).stream()
+                .collect(Collectors.toMap(ChannelWatermark::getChannelId, w -> w));
+
+        // 정상적으로 끝난 채널의 조회 결과 (워터마크 갱신용)
+        Map<String, ChannelScan> scans = new ConcurrentHashMap<>();
+        AtomicInteger fetchedCount = new AtomicInteger();
+
+        long started = System.currentTimeMillis();
+
+        // 채널별 페이지 스트림을 동시에 조회하되(동시 요청 수는 fetchConcurrency 로 제한),
+        // 저장 단계가 끝나야 다음 묶음을 요청하도록 하나의 저장 단계로 합침
+        Flux<VideoItem> items = Flux.fromIterable(channelIds)
+                .flatMap(channelId -> trackedChannelVideos(channelId, watermarks.get(channelId), scans)
+                                // 실패한 채널은 재시도 작업으로 넘기고 나머지 채널 수집은 계속
+                                // (DB 저장은 이벤트 루프를 막지 않도록 boundedElastic 에서)
+                                .onErrorResume(e -> Mono.fromRunnable(() ->
+                                                workItemService.enqueue(WorkItemType.INGEST_CHANNEL, channelId, e))
+                                        .subscribeOn(Schedulers.boundedElastic())
+                                        .then(Mono.<VideoItem>empty())),
+                        config.getFetchConcurrency())
+                .doOnNext(item -> fetchedCount.incrementAndGet());
+        int savedCount = persist(items).block();
+
+        // 영상 저장이 모두 끝난 뒤 워터마크 갱신
+        advanceWatermarks(scans, watermarks);
+        log.info("최근 영상 수집 완료: 채널 {}개, 조회 {}건, 신규 저장 {}건 ({}ms)",
+                channelIds.size(), fetchedCount.get(), savedCount, System.currentTimeMillis() - started);
+    }
+
+    // 채널 하나만 워터마크 기준으로 수집 (실패 시 예외를 그대로 던짐, 재시도 작업용)
+    public int ingestChannel(String channelId) {
+        Map<String, ChannelWatermark> watermarks = watermarkRepo.findById(channelId)
+                .map(w -> Map.of(channelId, w))
+                .orElse(Map.of());
+        Map<String, ChannelScan> scans = new ConcurrentHashMap<>();
+
+        int savedCount = persist(trackedChannelVideos(channelId, watermarks.get(channelId), scans)).block();
+        advanceWatermarks(scans, watermarks);
+        return savedCount;
+    }
+
+    // 채널 한 번 조회 결과
+    // truncated: 마지막으로 받은 페이지에 nextPageToken 이 남아 있음 (페이지 예산에 걸려 중간에 멈춤)
+    // gapRun: 이전에 못 다 본 구간을 이어서 조회한 경우
+    private record ChannelScan(LocalDateTime scanStart, VideoItem latest, VideoItem oldest,
+                               boolean truncated, boolean gapRun) {
+    }
+
+    // 이미 확인한 구간의 끝 (워터마크, 없으면 initialLookback 기준)
+    private LocalDateTime scanStart(ChannelWatermark watermark) {
+        return watermark != null && watermark.getLastPublishedAt() != null
+                ? watermark.getLastPublishedAt()
+                : LocalDateTime.now(ZoneOffset.UTC).minus(config.getInitialLookback());
+    }
+
+    // RFC3339 UTC Zulu 형식
+    private static String rfc3339(LocalDateTime time) {
+        return time.atOffset(ZoneOffset.UTC)
+                .truncatedTo(ChronoUnit.SECONDS)
                 .format(DateTimeFormatter.ISO_INSTANT);
+    }
+
+    // 채널별로 워터마크 / 미조회 구간 갱신
+    // 끝까지 조회했을 때만 구간을 닫고, 중간에 멈추면 가장 오래된 영상 이전을 미조회 구간으로 남겨 다음 수집에서 이어서 조회
+    private void advanceWatermarks(Map<String, ChannelScan> scans,
+                                   Map<String, ChannelWatermark> watermarks) {
+        List<ChannelWatermark> changed = new ArrayList<>();
+        scans.forEach((channelId, scan) -> {
+            ChannelWatermark watermark = watermarks.get(channelId);
+            if (watermark == null) {
+                watermark = new ChannelWatermark();
+                watermark.setChannelId(channelId);
+            }
 
-        for (String channelId : channelIds) {
-            String url = "https://www.googleapis.com/youtube/v3/search?part=snippet" +
-                    "&channelId=" + channelId +
-                    "&maxResults=30&order=date&type=video" +
-                    "&publishedAfter=" + afterDate +
-                    "&key=" + apiKey;
-
-            String response = WebClient.create()
-                    .get().uri(url)
-                    .retrieve().bodyToMono(String.class)
-                    .block();
-
-            JSONObject json = new JSONObject(response);
-            for (Object itemObj : json.getJSONArray("items")) {
-                JSONObject item = (JSONObject) itemObj;
-                JSONObject snippet = item.getJSONObject("snippet");
-                String videoId = item.getJSONObject("id").getString("videoId");
-
-                if (!videoRepo.existsById(videoId)) {
-                    String title = snippet.getString("title");
-                    String publishedAtStr = snippet.getString("publishedAt");
-                    OffsetDateTime odt = OffsetDateTime.parse(publishedAtStr);
-                    LocalDateTime publishedAt = odt.toLocalDateTime();
-                    String videoUrl = "https://www.youtube.com/watch?v=" + videoId;
-                    String caption = fetchAutoCaption(videoId); // 구현 생략
-
-                    YouTubeVideo video = new YouTubeVideo();
-                    video.setVideoId(videoId);
-                    video.setTitle(title);
-                    video.setPublishedAt(publishedAt);
-                    video.setVideoUrl(videoUrl);
-                    video.setCaption(caption);
-
-                    videoRepo.save(video);
-                    elasticRepo.save(new VideoTitleDoc(videoId, title, videoUrl));
+            if (scan.gapRun()) {
+                if (!scan.truncated()) {
+                    watermark.setGapAfter(null);
+                    watermark.setGapBefore(null);
+                } else if (scan.oldest() != null) {
+                    watermark.setGapBefore(scan.oldest().publishedAt());
                 }
+                changed.add(watermark);
+                return;
             }
-        }
+
+            if (scan.latest() == null) {
+                return;
+            }
+            if (scan.truncated() && scan.oldest() != null) {
+                watermark.setGapAfter(scan.scanStart());
+                watermark.setGapBefore(scan.oldest().publishedAt());
+            }
+            // 뒤로 되돌리지 않음
+            if (watermark.getLastPublishedAt() == null
+                    || scan.latest().publishedAt().isAfter(watermark.getLastPublishedAt())) {
+                watermark.setLastPublishedAt(scan.latest().publishedAt());
+                watermark.setLastVideoId(scan.latest().videoId());
+            }
+            changed.add(watermark);
+        });
+        watermarkRepo.saveAll(changed);
     }
 
+    // 채널 스트림에 수집 시간 기록을 덧붙임
+    // 미조회 구간이 있으면 그 구간을, 없으면 워터마크에서 overlap 만큼 앞당긴 시각 이후를 조회
+    // 끝까지 정상 조회된 채널만 scans 에 기록되므로 실패한 채널의 워터마크는 바뀌지 않음
+    private Flux<VideoItem> trackedChannelVideos(String channelId, ChannelWatermark watermark,
+                                                 Map<String, ChannelScan> scans) {
+        return Flux.defer(() -> {
+            boolean gapRun = watermark != null && watermark.getGapAfter() != null && watermark.getGapBefore() != null;
+            LocalDateTime start = gapRun ? watermark.getGapAfter() : scanStart(watermark);
+            String afterDate = rfc3339(start.minus(config.getWatermarkOverlap()));
+            String beforeDate = gapRun ? rfc3339(watermark.getGapBefore().plus(config.getWatermarkOverlap())) : null;
 
-    public String fetchAndSaveVideosByKeyword(String keyword) {
-        String apiKey = config.getApiKey();
-        String url = "https://www.googleapis.com/youtube/v3/search" +
-                "?part=snippet" +
-                "&maxResults=10" +
+            long started = System.currentTimeMillis();
+            AtomicInteger count = new AtomicInteger();
+            AtomicReference<VideoItem> latest = new AtomicReference<>();
+            AtomicReference<VideoItem> oldest = new AtomicReference<>();
+            AtomicReference<String> lastPageToken = new AtomicReference<>();
+            return channelPages(channelId, afterDate, beforeDate)
+                    .doOnNext(page -> lastPageToken.set(page.nextPageToken()))
+                    .concatMapIterable(SearchListResponse::toVideoItems)
+                    .doOnNext(item -> {
+                        count.incrementAndGet();
+                        latest.accumulateAndGet(item, (prev, next) ->
+                                prev == null || next.publishedAt().isAfter(prev.publishedAt()) ? next : prev);
+                        oldest.accumulateAndGet(item, (prev, next) ->
+                                prev == null || next.publishedAt().isBefore(prev.publishedAt()) ? next : prev);
+                    })
+                    .doOnComplete(() -> {
+                        boolean truncated = lastPageToken.get() != null;
+                        scans.put(channelId, new ChannelScan(start, latest.get(), oldest.get(), truncated, gapRun));
+                        log.info("채널 {} 수집{}: {}건 ({}ms){}", channelId, gapRun ? " (미조회 구간)" : "",
+                                count.get(), System.currentTimeMillis() - started,
+                                truncated ? ", 페이지 예산 소진으로 다음 수집에서 이어서 조회" : "");
+                    })
+                    .doOnError(e -> log.warn("채널 {} 수집 실패 ({}건 조회 후): {}",
+                            channelId, count.get(), e.getMessage()));
+        });
+    }
+
+    // 채널의 afterDate 이후 영상을 nextPageToken 을 따라 지연 조회 (channelPageBudget 페이지까지)
+    public Flux<VideoItem> streamChannelVideos(String channelId, String afterDate) {
+        return channelPages(channelId, afterDate, null)
+                .concatMapIterable(SearchListResponse::toVideoItems);
+    }
+
+    // beforeDate 가 있으면 그 이전 영상만
+    private Flux<SearchListResponse> channelPages(String channelId, String afterDate, String beforeDate) {
+        String query = "part=snippet" +
+                "&channelId=" + channelId +
+                "&maxResults=" + SEARCH_PAGE_SIZE + "&order=date&type=video" +
+                "&publishedAfter=" + afterDate +
+                (beforeDate != null ? "&publishedBefore=" + beforeDate : "");
+
+        return searchPages(query, Priority.BACKGROUND, config.getChannelPageBudget());
+    }
+
+    // 키워드 검색 결과를 nextPageToken 을 따라 지연 조회 (maxPages 페이지까지, maxKeywordPages 를 넘지 않음)
+    public Flux<VideoItem> streamKeywordVideos(String keyword, int maxPages) {
+        String query = "part=snippet" +
+                "&maxResults=" + SEARCH_PAGE_SIZE +
                 "&q=" + keyword +
-                "&type=video" +
-                "&key=" + apiKey;
+                "&type=video";
 
-        String response = WebClient.create()
-                .get().uri(url)
-                .retrieve().bodyToMono(String.class)
-                .block();
+        return searchPages(query, Priority.INTERACTIVE, Math.min(maxPages, config.getMaxKeywordPages()))
+                .concatMapIterable(SearchListResponse::toVideoItems);
+    }
 
-        JSONObject json = new JSONObject(response);
-        int savedCount = 0;
-
-        for (Object itemObj : json.getJSONArray("items")) {
-            JSONObject item = (JSONObject) itemObj;
-            JSONObject snippet = item.getJSONObject("snippet");
-            String videoId = item.getJSONObject("id").getString("videoId");
-
-            if (!videoRepo.existsById(videoId)) {
-                String title = snippet.getString("title");
-                LocalDateTime publishedAt = LocalDateTime.parse(
-                        snippet.getString("publishedAt"),
-                        DateTimeFormatter.ISO_DATE_TIME
-                );
-                String videoUrl = "https://www.youtube.com/watch?v=" + videoId;
-                String caption = fetchAutoCaption(videoId); // 자동 자막 텍스트 예시
-
-                YouTubeVideo video = new YouTubeVideo();
-                video.setVideoId(videoId);
-                video.setTitle(title);
-                video.setPublishedAt(publishedAt);
-                video.setVideoUrl(videoUrl);
-                video.setCaption(caption);
-
-                videoRepo.save(video);
-                elasticRepo.save(new VideoTitleDoc(videoId, title, videoUrl));
-                savedCount++;
-            }
+    // 이전 페이지가 소비된 뒤에만 다음 페이지를 요청
+    // maxPages 는 항상 상한으로 적용 (1 미만이면 1페이지만, 제한 없이 따라가지 않음)
+    private Flux<SearchListResponse> searchPages(String query, Priority priority, int maxPages) {
+        return searchPage(query, null, priority)
+                .expand(page -> page.nextPageToken() == null
+                        ? Mono.empty()
+                        : searchPage(query, page.nextPageToken(), priority))
+                .take(Math.max(1, maxPages));
+    }
+
+    private Mono<SearchListResponse> searchPage(String query, String pageToken, Priority priority) {
+        String pagedQuery = pageToken == null ? query : query + "&pageToken=" + pageToken;
+        return apiGateway.get(Endpoint.SEARCH, pagedQuery, priority, SearchListResponse.class);
+    }
+
+
+    public String fetchAndSaveVideosByKeyword(String keyword) {
+        return fetchAndSaveVideosByKeyword(keyword, config.getKeywordPageBudget());
+    }
+
+    public String fetchAndSaveVideosByKeyword(String keyword, int maxPages) {
+        int savedCount;
+        try {
+            savedCount = persist(streamKeywordVideos(keyword, maxPages)).block();
+        } catch (QuotaExceededException e) {
+            return "YouTube API 쿼터가 부족해 키워드 [" + keyword + "] 수집을 진행하지 못했습니다.";
         }
 
         return "총 " + savedCount + "개의 영상을 키워드 [" + keyword + "]로 저장했습니다.";
     }
 
-    private String fetchAutoCaption(String videoId) {
-        return "";
+    // 영상 한 건만 조회해 저장 (푸시 알림용, videos.list 1 quota)
+    // 알림의 채널 ID 는 위조될 수 있으므로 API 가 돌려준 채널도 수집 대상인지 다시 확인
+    public boolean fetchVideoById(String videoId) {
+        if (!YouTubeUrls.isVideoId(videoId)) {
+            throw new IllegalArgumentException("잘못된 영상 ID: " + videoId);
+        }
+        String query = "part=snippet" +
+                "&id=" + videoId;
+
+        VideoListResponse response = apiGateway.get(Endpoint.VIDEOS, query, Priority.BACKGROUND, VideoListResponse.class)
+                .block();
+
+        List<VideoItem> tracked = response.toVideoItems().stream()
+                .filter(item -> isTrackedChannel(item.channelId()))
+                .toList();
+        if (tracked.isEmpty()) {
+            log.info("수집 대상 채널이 아닌 영상 {} 는 저장하지 않음", videoId);
+            return false;
+        }
+        return saveNewVideoPage(tracked) > 0;
+    }
+
+    // 설정된 수집 대상 채널(youtube.channel-ids)인지 확인
+    public boolean isTrackedChannel(String channelId) {
+        List<String> channelIds = config.getChannelIds();
+        return channelId != null && channelIds != null && channelIds.contains(channelId);
+    }
+
+    // 스트림을 PERSIST_PAGE_SIZE 단위로 묶어 순차 저장하고 저장 건수를 반환
+    // concatMap 이라 저장 중에는 다음 묶음을 요청하지 않으므로 상위 페이지 조회에 배압이 걸림
+    private Mono<Integer> persist(Flux<VideoItem> items) {
+        return items
+                .buffer(PERSIST_PAGE_SIZE)
+                .concatMap(page -> Mono.fromCallable(() -> saveNewVideoPage(page))
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .reduce(0, Integer::sum);
+    }
+
+    // 아직 저장되지 않은 영상만 저장하고 저장 건수를 반환
+    // 페이지 단위로 INSERT ... ON CONFLICT DO NOTHING 한 번에 저장하고, 실제로 저장된 영상만 ES bulk 색인 / 자막 / 통계 수집
+    // (다른 수집 경로가 같은 영상을 먼저 저장했으면 그 영상만 건너뛰고 페이지 전체는 그대로 저장)
+    private int saveNewVideoPage(List<VideoItem> page) {
+        // 같은 페이지 안의 중복 항목 제거 (먼저 나온 항목 유지)
+        Map<String, VideoItem> byId = new LinkedHashMap<>();
+        for (VideoItem item : page) {
+            byId.putIfAbsent(item.videoId(), item);
+        }
+        if (byId.isEmpty()) {
+            return 0;
+        }
+
+        List<YouTubeVideo> videos = new ArrayList<>();
+        for (VideoItem item : byId.values()) {
+            YouTubeVideo video = new YouTubeVideo();
+            video.setVideoId(item.videoId());
+            video.setChannelId(item.channelId());
+            video.setTitle(item.title());
+            video.setPublishedAt(item.publishedAt());
+            video.setVideoUrl(item.videoUrl());
+            videos.add(video);
+        }
+
+        List<String> inserted = videoRepo.insertIfAbsent(videos);
+        if (inserted.isEmpty()) {
+            return 0;
+        }
+        List<VideoTitleDoc> docs = new ArrayList<>(inserted.size());
+        for (String videoId : inserted) {
+            VideoItem item = byId.get(videoId);
+            docs.add(new VideoTitleDoc(item.videoId(), item.title(), item.videoUrl()));
+        }
+        elasticRepo.saveAll(docs);
+
+        // 자막은 별도 작업자 풀에서 비동기로 수집
+        captionFetchService.enqueue(inserted);
+        // 조회수 / 길이 등은 50개씩 모아 videos.list 로 한 번에 조회
+        enrichmentService.enqueue(inserted);
+        return inserted.size();
     }
 
     public List<VideoInfo> getAllVideoInfo() {
-        return videoRepo.findAllProjectedBy()
+        return toVideoInfos(videoRepo.findAllProjectedBy());
+    }
+
+    // 일괄 분석 대상 영상
+    // 기본은 분석 결과가 없는 영상만, force 면 이미 분석한 영상도 포함, since 가 있으면 그 이후 게시된 영상으로 제한
+    public List<VideoInfo> getVideoInfoForAnalysis(boolean force, LocalDateTime since) {
+        List<UrlOnly> videos;
+        if (force) {
+            videos = since == null ? videoRepo.findAllProjectedBy() : videoRepo.findByPublishedAtAfter(since);
+        } else {
+            videos = since == null ? videoRepo.findUnanalyzed() : videoRepo.findUnanalyzedPublishedAfter(since);
+        }
+        return toVideoInfos(videos);
+    }
+
+    private List<VideoInfo> toVideoInfos(List<UrlOnly> videos) {
+        return videos
                 .stream()
                 .map(p -> new VideoInfo(
                         p.getVideoUrl(),
@@ -158,4 +393,4 @@ public class YouTubeService {
                 .collect(Collectors.toList());
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,38 @@
+package newsbalance.demo.Service;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 같은 영상을 가리키는 여러 형태의 YouTube 링크를 하나의 형태로 맞춤
+// (youtu.be/ID, m.youtube.com/watch?v=ID&t=10, shorts/ID, embed/ID ... -> https://www.youtube.com/watch?v=ID)
+public final class YouTubeUrls {
+
+    private static final Pattern VIDEO_ID = Pattern.compile(
+            "^(?:https?://)?(?:www\\.|m\\.|music\\.)?" +
+                    "(?:youtube\\.com/(?:watch\\?(?:.*&)?v=|shorts/|embed/|live/|v/)|youtu\\.be/)" +
+                    "([A-Za-z0-9_-]{11})(?![A-Za-z0-9_-])");
+
+    private static final Pattern VIDEO_ID_ONLY = Pattern.compile("[A-Za-z0-9_-]{11}");
+
+    private YouTubeUrls() {
+    }
+
+    // YouTube 영상 ID 형식 (11자, 영문 / 숫자 / - / _) 인지 확인
+    public static boolean isVideoId(String videoId) {
+        return videoId != null && VIDEO_ID_ONLY.matcher(videoId).matches();
+    }
+
+    // YouTube 영상 링크가 아니면 앞뒤 공백만 제거해 그대로 반환
+    public static String normalize(String url) {
+        if (url == null) {
+            return null;
+        }
+        String trimmed = url.trim();
+        Matcher matcher = VIDEO_ID.matcher(trimmed);
+        return matcher.find() ? watchUrl(matcher.group(1)) : trimmed;
+    }
+
+    public static String watchUrl(String videoId) {
+        return "https://www.youtube.com/watch?v=" + videoId;
+    }
+}
@@ -1,18 +1,32 @@
 package newsbalance.demo.Service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.annotation.PostConstruct;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import newsbalance.demo.Configuration.AnalysisConfig;
+import newsbalance.demo.DTO.Request.RelatedArticleDTO;
+import newsbalance.demo.DTO.Request.SummarySentenceDTO;
 import newsbalance.demo.DTO.UrlContentRequestDTO;
 import newsbalance.demo.Entity.RelatedArticle;
+import newsbalance.demo.Entity.SearchOutboxEvent;
 import newsbalance.demo.Entity.SummarySentence;
 import newsbalance.demo.Entity.YoutubeContent;
-import newsbalance.demo.Repository.Elasticsearch.YoutubeContentElasticRepository;
+import newsbalance.demo.Repository.JPA.SearchOutboxRepository;
 import newsbalance.demo.Repository.JPA.YoutubeContentRepository;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import newsbalance.demo.DTO.Request.YoutubeContentRequestDTO;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -25,54 +39,76 @@ public class YoutubeContentService {
     private YoutubeContentRepository youtubeContentRepository;
 
     @Autowired
-    private YoutubeContentElasticRepository youtubeContentElasticRepository;
+    private SearchOutboxRepository searchOutboxRepository;
 
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private AnalysisConfig analysisConfig;
+
+    // 정규화한 영상 URL -> 연관 컬렉션까지 모두 읽어 둔 분석 결과
+    // 분석 결과는 저장 후 바뀌지 않으므로 저장 시에만 무효화하고, 대략적인 바이트 크기(weight) 기준으로 제거
+    private Cache<String, YoutubeContent> contentCache;
+
+    @PostConstruct
+    void initContentCache() {
+        contentCache = Caffeine.newBuilder()
+                .maximumWeight(analysisConfig.getContentCacheMaxBytes())
+                .weigher(YoutubeContentService::estimateBytes)
+                .expireAfterAccess(analysisConfig.getContentCacheExpireAfterAccess())
+                .recordStats()
+                .build();
+    }
 
+    // 같은 영상 URL 의 결과가 이미 있으면 (강제 재분석 / 중복 재사용) 새 행을 만들지 않고 그 행을 갱신
+    // video_url 은 unique 라 행이 둘이 되지 않음 (YoutubeContentUrlIndexInitializer)
     @Transactional
     public void saveContent(YoutubeContentRequestDTO dto, String title, Long publishedAt) {
-        YoutubeContent content = new YoutubeContent();
-        content.setVideoUrl(dto.getUrl());
+        YoutubeContent content = findOrCreate(dto.getUrl());
         content.setBiasScore(dto.getBiasScore());
         content.setTitle(title);
         content.setPublishedAt(publishedAt * 1_000L);
-
-
-        List<SummarySentence> sentences = dto.getSummarySentences().stream()
-                .map(s -> {
-                    SummarySentence ss = new SummarySentence();
-                    ss.setContent(s.getContent());
-                    ss.setScore(s.getScore());
-                    ss.setVideoSummary(content);
-                    return ss;
-                })
-                .collect(Collectors.toList());
-        content.setSentencesScore(sentences);
-
-        List<RelatedArticle> relatedArticles = dto.getRelatedArticles().stream()
-                .map(a -> {
-                    RelatedArticle ra = new RelatedArticle();
-                    ra.setTitle(a.getTitle());
-                    ra.setLink(a.getLink());
-                    return ra;
-                })
-                .toList();
-        content.setRelatedArticles(relatedArticles);
+        replaceAnalysis(content, dto.getSummarySentences(), dto.getRelatedArticles());
 
         // 3. JPA 저장 (ID 발급 및 자식 연관관계 저장)
         YoutubeContent saved = youtubeContentRepository.save(content);
 
-        // 4. Elasticsearch 저장 (초기 save 시점보다 마지막에 호출)
-        youtubeContentElasticRepository.save(saved);
+        // 4. Elasticsearch 색인은 같은 트랜잭션에 outbox 로만 남기고 SearchOutboxRelay 가 비동기로 반영
+        searchOutboxRepository.save(SearchOutboxEvent.forDocument(saved.getId()));
+
+        evictAfterCommit(saved.getVideoUrl());
     }
 
     @Transactional
     public void saveUrlContent(UrlContentRequestDTO dto) {
-        YoutubeContent content = new YoutubeContent();
-        content.setVideoUrl(dto.getUrl());
+        YoutubeContent content = findOrCreate(dto.getUrl());
         content.setBiasScore(dto.getBiasScore());
         content.setTitle(dto.getTitle());
+        replaceAnalysis(content, dto.getSummarySentences(), dto.getRelatedArticles());
+
+        // 3. JPA 저장 (ID 발급 및 자식 연관관계 저장)
+        YoutubeContent saved = youtubeContentRepository.save(content);
+
+        // 4. Elasticsearch 색인 요청 (outbox)
+        searchOutboxRepository.save(SearchOutboxEvent.forDocument(saved.getId()));
 
-        List<SummarySentence> sentences = dto.getSummarySentences().stream()
+        evictAfterCommit(saved.getVideoUrl());
+    }
+
+    private YoutubeContent findOrCreate(String videoUrl) {
+        return youtubeContentRepository.findByVideoUrl(videoUrl).orElseGet(() -> {
+            YoutubeContent content = new YoutubeContent();
+            content.setVideoUrl(videoUrl);
+            return content;
+        });
+    }
+
+    // 기존 행을 갱신할 때도 컬렉션 객체는 그대로 두고 내용만 바꿈 (orphanRemoval 로 이전 요약 문장 삭제)
+    private static void replaceAnalysis(YoutubeContent content,
+                                        List<SummarySentenceDTO> summarySentences,
+                                        List<RelatedArticleDTO> relatedArticles) {
+        List<SummarySentence> sentences = summarySentences.stream()
                 .map(s -> {
                     SummarySentence ss = new SummarySentence();
                     ss.setContent(s.getContent());
@@ -81,9 +117,10 @@ public class YoutubeContentService {
                     return ss;
                 })
                 .collect(Collectors.toList());
-        content.setSentencesScore(sentences);
+        content.getSentencesScore().clear();
+        content.getSentencesScore().addAll(sentences);
 
-        List<RelatedArticle> relatedArticles = dto.getRelatedArticles().stream()
+        List<RelatedArticle> articles = relatedArticles.stream()
                 .map(a -> {
                     RelatedArticle ra = new RelatedArticle();
                     ra.setTitle(a.getTitle());
@@ -91,15 +128,88 @@ public class YoutubeContentService {
                     return ra;
                 })
                 .toList();
-        content.setRelatedArticles(relatedArticles);
-
-        // 3. JPA 저장 (ID 발급 및 자식 연관관계 저장)
-        YoutubeContent saved = youtubeContentRepository.save(content);
+        content.getRelatedArticles().clear();
+        content.getRelatedArticles().addAll(articles);
     }
 
 
+    // 캐시에 없으면 같은 URL 동시 요청 중 하나만 DB 에서 읽고 나머지는 그 결과를 기다림
+    // 아직 분석 결과가 없는 URL 은 곧 저장될 수 있으므로 캐시하지 않음
     public Optional<YoutubeContent> getYoutubecontent(String url) {
-        return youtubeContentRepository.findByVideoUrl(url);
+        if (url == null) {
+            return Optional.empty();
+        }
+        String key = YouTubeUrls.normalize(url);
+        return Optional.ofNullable(contentCache.get(key, normalized -> loadMaterialized(normalized, url)));
+    }
+
+    public Map<String, Object> getCacheStats() {
+        CacheStats stats = contentCache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("entries", contentCache.estimatedSize());
+        result.put("hitRate", stats.hitRate());
+        result.put("hits", stats.hitCount());
+        result.put("misses", stats.missCount());
+        result.put("evictions", stats.evictionCount());
+        return result;
+    }
+
+    // 지연 로딩 컬렉션을 트랜잭션 안에서 모두 읽어 두어, 캐시에서 꺼낸 뒤에도 세션 없이 직렬화할 수 있게 함
+    // 정규화 이전에 원래 링크 그대로 저장된 결과도 찾음
+    private YoutubeContent loadMaterialized(String normalizedUrl, String rawUrl) {
+        return transactionTemplate.execute(status -> {
+            Optional<YoutubeContent> content = youtubeContentRepository.findByVideoUrl(normalizedUrl);
+            if (content.isEmpty() && !normalizedUrl.equals(rawUrl)) {
+                content = youtubeContentRepository.findByVideoUrl(rawUrl);
+            }
+            content.ifPresent(c -> {
+                Hibernate.initialize(c.getKeywords());
+                Hibernate.initialize(c.getRelatedArticles());
+                Hibernate.initialize(c.getSentencesScore());
+            });
+            return content.orElse(null);
+        });
+    }
+
+    // 커밋 전에 지우면 다른 요청이 커밋 전 상태를 다시 캐시할 수 있으므로 커밋 후 무효화
+    private void evictAfterCommit(String url) {
+        if (url == null) {
+            return;
+        }
+        String key = YouTubeUrls.normalize(url);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            contentCache.invalidate(key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                contentCache.invalidate(key);
+            }
+        });
+    }
+
+    // 문자열 길이 기준 대략적인 메모리 사용량 (UTF-16 2바이트 + 객체당 고정 비용)
+    private static int estimateBytes(String url, YoutubeContent content) {
+        long chars = url.length() + length(content.getTitle()) + length(content.getVideoUrl()) + length(content.getUrl());
+        long objects = 1;
+        for (String keyword : content.getKeywords()) {
+            chars += length(keyword);
+            objects++;
+        }
+        for (RelatedArticle article : content.getRelatedArticles()) {
+            chars += length(article.getTitle()) + length(article.getLink());
+            objects++;
+        }
+        for (SummarySentence sentence : content.getSentencesScore()) {
+            chars += length(sentence.getContent());
+            objects++;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, chars * 2 + objects * 64);
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
     }
 
 }
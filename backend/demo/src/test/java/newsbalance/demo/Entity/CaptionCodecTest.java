@@ -0,0 +1,49 @@
+package newsbalance.demo.Entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CaptionCodecTest {
+
+    @Test
+    void roundTripsUnicodeText() {
+        String caption = "안녕하세요, 오늘의 뉴스입니다. Breaking news & \"quotes\" 😀\n두 번째 줄";
+
+        assertThat(CaptionCodec.decompress(CaptionCodec.compress(caption))).isEqualTo(caption);
+    }
+
+    @Test
+    void roundTripsEmptyAndLargeText() {
+        assertThat(CaptionCodec.decompress(CaptionCodec.compress(""))).isEmpty();
+
+        // 버퍼(8KB)보다 큰 자막도 여러 번에 나눠 압축 / 해제되어야 함
+        StringBuilder caption = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            caption.append("문장 ").append(i).append(". ");
+        }
+        String text = caption.toString();
+
+        byte[] compressed = CaptionCodec.compress(text);
+
+        assertThat(compressed.length).isLessThan(text.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(CaptionCodec.decompress(compressed)).isEqualTo(text);
+    }
+
+    @Test
+    void passesNullThrough() {
+        assertThat(CaptionCodec.compress(null)).isNull();
+        assertThat(CaptionCodec.decompress(null)).isNull();
+    }
+
+    @Test
+    void rejectsCorruptedData() {
+        byte[] corrupted = {0x01, 0x02, 0x03, 0x04, 0x05};
+
+        assertThatThrownBy(() -> CaptionCodec.decompress(corrupted))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,53 @@
+package newsbalance.demo.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CaptionFetchServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void extractsObjectIgnoringBracesInsideStrings() {
+        String text = "var a = {\"title\":\"{괄호} \\\"따옴표\\\" }\",\"nested\":{\"list\":[{\"x\":1}]}};var b = {};";
+
+        String json = CaptionFetchService.extractJsonObject(text, text.indexOf('{'));
+
+        assertThat(json).isEqualTo("{\"title\":\"{괄호} \\\"따옴표\\\" }\",\"nested\":{\"list\":[{\"x\":1}]}}");
+    }
+
+    @Test
+    void returnsNullForUnterminatedObject() {
+        assertThat(CaptionFetchService.extractJsonObject("{\"a\":{\"b\":1}", 0)).isNull();
+    }
+
+    @Test
+    void findsCaptionTracksInPlayerResponse() throws IOException {
+        String html = "<html><script>var ytInitialPlayerResponse = {" +
+                "\"videoDetails\":{\"title\":\"뉴스 {속보}\"}," +
+                "\"captions\":{\"playerCaptionsTracklistRenderer\":{\"captionTracks\":[" +
+                "{\"baseUrl\":\"https://www.youtube.com/api/timedtext?v=abc&lang=ko\",\"languageCode\":\"ko\"," +
+                "\"name\":{\"runs\":[{\"text\":\"한국어\"}]}}," +
+                "{\"baseUrl\":\"https://www.youtube.com/api/timedtext?v=abc&lang=en\",\"languageCode\":\"en\"}" +
+                "]}}};var meta = {\"captions\":{}};</script></html>";
+
+        JsonNode tracks = CaptionFetchService.findCaptionTracks(html, objectMapper);
+
+        assertThat(tracks.isArray()).isTrue();
+        assertThat(tracks).hasSize(2);
+        assertThat(tracks.get(0).path("languageCode").asText()).isEqualTo("ko");
+        assertThat(tracks.get(1).path("baseUrl").asText()).endsWith("lang=en");
+    }
+
+    @Test
+    void returnsMissingNodeWithoutPlayerResponseOrCaptions() throws IOException {
+        assertThat(CaptionFetchService.findCaptionTracks("<html></html>", objectMapper).isMissingNode()).isTrue();
+        assertThat(CaptionFetchService.findCaptionTracks(
+                "var ytInitialPlayerResponse = {\"videoDetails\":{}};", objectMapper).isMissingNode()).isTrue();
+    }
+}
@@ -0,0 +1,135 @@
+package newsbalance.demo.Service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircuitBreakerTest {
+
+    private static final Duration LONG_OPEN = Duration.ofHours(1);
+
+    @Test
+    void opensAfterConsecutiveFailuresAndRejectsWithoutCalling() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 3, LONG_OPEN);
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> breaker.execute(() -> fail(calls)))
+                    .isInstanceOf(ResourceAccessException.class);
+        }
+        assertThat(breaker.getStats()).containsEntry("state", CircuitBreaker.State.OPEN);
+
+        assertThatThrownBy(() -> breaker.execute(() -> fail(calls)))
+                .isInstanceOf(AnalysisUnavailableException.class);
+        assertThat(calls).hasValue(3);
+        assertThat(breaker.getStats()).containsEntry("rejected", 1L);
+    }
+
+    @Test
+    void successResetsConsecutiveFailures() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 3, LONG_OPEN);
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> breaker.execute(() -> fail(calls)))
+                    .isInstanceOf(ResourceAccessException.class);
+        }
+        assertThat(breaker.execute(() -> "ok")).isEqualTo("ok");
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> breaker.execute(() -> fail(calls)))
+                    .isInstanceOf(ResourceAccessException.class);
+        }
+
+        assertThat(breaker.getStats())
+                .containsEntry("state", CircuitBreaker.State.CLOSED)
+                .containsEntry("consecutiveFailures", 2);
+    }
+
+    @Test
+    void clientErrorsDoNotCountAsFailures() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, LONG_OPEN);
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> breaker.execute(() -> {
+                throw new HttpClientErrorException(HttpStatus.BAD_REQUEST);
+            })).isInstanceOf(HttpClientErrorException.class);
+        }
+
+        assertThat(breaker.getStats())
+                .containsEntry("state", CircuitBreaker.State.CLOSED)
+                .containsEntry("consecutiveFailures", 0);
+    }
+
+    @Test
+    void halfOpenTrialSuccessCloses() {
+        CircuitBreaker breaker = openBreaker();
+
+        assertThat(breaker.execute(() -> "ok")).isEqualTo("ok");
+
+        assertThat(breaker.getStats()).containsEntry("state", CircuitBreaker.State.CLOSED);
+        assertThat(breaker.execute(() -> "again")).isEqualTo("again");
+    }
+
+    @Test
+    void halfOpenTrialFailureReopens() {
+        CircuitBreaker breaker = openBreaker();
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> breaker.execute(() -> fail(calls)))
+                .isInstanceOf(ResourceAccessException.class);
+
+        assertThat(calls).hasValue(1);
+        assertThat(breaker.getStats()).containsEntry("state", CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void halfOpenTrialErrorReopensInsteadOfStickingHalfOpen() {
+        CircuitBreaker breaker = openBreaker();
+
+        assertThatThrownBy(() -> breaker.execute(() -> {
+            throw new StackOverflowError();
+        })).isInstanceOf(StackOverflowError.class);
+        assertThat(breaker.getStats()).containsEntry("state", CircuitBreaker.State.OPEN);
+
+        // 열린 시간이 지나면 다시 시험 호출을 받음
+        assertThat(breaker.execute(() -> "ok")).isEqualTo("ok");
+        assertThat(breaker.getStats()).containsEntry("state", CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void halfOpenAllowsOnlyOneTrialAtATime() {
+        CircuitBreaker breaker = openBreaker();
+
+        // 시험 호출이 진행 중인 동안 다른 호출은 거절
+        String result = breaker.execute(() -> {
+            assertThat(breaker.getStats()).containsEntry("state", CircuitBreaker.State.HALF_OPEN);
+            assertThatThrownBy(() -> breaker.execute(() -> "concurrent"))
+                    .isInstanceOf(AnalysisUnavailableException.class);
+            return "trial";
+        });
+
+        assertThat(result).isEqualTo("trial");
+        assertThat(breaker.getStats()).containsEntry("state", CircuitBreaker.State.CLOSED);
+    }
+
+    // openDuration 이 0 이라 열린 직후 다음 호출이 바로 시험 호출이 됨
+    private static CircuitBreaker openBreaker() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, Duration.ZERO);
+        assertThatThrownBy(() -> breaker.execute(() -> fail(new AtomicInteger())))
+                .isInstanceOf(ResourceAccessException.class);
+        assertThat(breaker.getStats()).containsEntry("state", CircuitBreaker.State.OPEN);
+        return breaker;
+    }
+
+    private static String fail(AtomicInteger calls) {
+        calls.incrementAndGet();
+        throw new ResourceAccessException("connection refused");
+    }
+}
@@ -0,0 +1,42 @@
+package newsbalance.demo.Service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HubSignatureTest {
+
+    private static final String SECRET = "hub-secret";
+    private static final byte[] BODY = "<feed><entry>영상</entry></feed>".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void acceptsSignatureComputedWithSecret() {
+        String sha1 = "sha1=" + HexFormat.of().formatHex(HubSignature.hmac("HmacSHA1", SECRET, BODY));
+        String sha256 = "SHA256=" + HexFormat.of().withUpperCase()
+                .formatHex(HubSignature.hmac("HmacSHA256", SECRET, BODY));
+
+        assertThat(HubSignature.matches(SECRET, BODY, sha1)).isTrue();
+        assertThat(HubSignature.matches(SECRET, BODY, sha256)).isTrue();
+    }
+
+    @Test
+    void rejectsWrongSecretOrTamperedBody() {
+        String signature = "sha1=" + HexFormat.of().formatHex(HubSignature.hmac("HmacSHA1", SECRET, BODY));
+        byte[] tampered = "<feed><entry>위조</entry></feed>".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(HubSignature.matches("other-secret", BODY, signature)).isFalse();
+        assertThat(HubSignature.matches(SECRET, tampered, signature)).isFalse();
+    }
+
+    @Test
+    void rejectsMissingOrMalformedHeader() {
+        assertThat(HubSignature.matches(SECRET, BODY, null)).isFalse();
+        assertThat(HubSignature.matches(SECRET, BODY, "")).isFalse();
+        assertThat(HubSignature.matches(SECRET, BODY, "deadbeef")).isFalse();
+        assertThat(HubSignature.matches(SECRET, BODY, "md5=deadbeef")).isFalse();
+        assertThat(HubSignature.matches(SECRET, BODY, "sha1=not-hex")).isFalse();
+    }
+}
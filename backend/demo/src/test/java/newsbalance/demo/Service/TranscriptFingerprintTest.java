@@ -0,0 +1,89 @@
+package newsbalance.demo.Service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TranscriptFingerprintTest {
+
+    private static final String[] NEWS_WORDS = {
+            "정부는", "오늘", "새로운", "경제", "정책을", "발표했다", "전문가들은", "이번", "조치가", "물가",
+            "안정에", "도움이", "될", "것이라고", "전망했다", "하지만", "야당은", "실효성에", "의문을", "제기했다"
+    };
+    private static final String[] SPORTS_WORDS = {
+            "축구", "대표팀이", "월드컵", "예선에서", "승리했다", "감독은", "선수들을", "칭찬했다",
+            "관중", "환호", "골", "득점", "수비", "공격"
+    };
+
+    @Test
+    void returnsNullForMissingOrShortTranscript() {
+        assertThat(TranscriptFingerprint.simHash(null)).isNull();
+        assertThat(TranscriptFingerprint.simHash("짧은 자막입니다.")).isNull();
+        // 공백 / 문장부호는 길이에 포함되지 않음
+        assertThat(TranscriptFingerprint.simHash("가 ".repeat(150) + "!".repeat(100))).isNull();
+    }
+
+    @Test
+    void isStableAndIgnoresCaseWhitespaceAndPunctuation() {
+        String transcript = transcript(NEWS_WORDS, 42);
+        String reformatted = "  " + transcript.toUpperCase().replace(".", "!").replace(" ", "\n") + " ...";
+
+        long fingerprint = TranscriptFingerprint.simHash(transcript);
+
+        assertThat(TranscriptFingerprint.simHash(transcript)).isEqualTo(fingerprint);
+        assertThat(TranscriptFingerprint.simHash(reformatted)).isEqualTo(fingerprint);
+    }
+
+    @Test
+    void nearDuplicateStaysWithinMaxDistance() {
+        String transcript = transcript(NEWS_WORDS, 42);
+        // 재업로드처럼 앞뒤가 조금 잘리고 인식 결과가 한 글자 다른 경우
+        String reupload = transcript.substring(30, transcript.length() - 30).replaceFirst("경제", "겅제");
+
+        int distance = TranscriptFingerprint.distance(
+                TranscriptFingerprint.simHash(transcript), TranscriptFingerprint.simHash(reupload));
+
+        assertThat(distance).isLessThanOrEqualTo(TranscriptFingerprint.MAX_DISTANCE);
+    }
+
+    @Test
+    void differentContentIsFarApart() {
+        long news = TranscriptFingerprint.simHash(transcript(NEWS_WORDS, 42));
+        long sports = TranscriptFingerprint.simHash(transcript(SPORTS_WORDS, 7));
+
+        assertThat(TranscriptFingerprint.distance(news, sports)).isGreaterThan(TranscriptFingerprint.MAX_DISTANCE);
+    }
+
+    @Test
+    void splitsFingerprintIntoSixteenBitBands() {
+        long fingerprint = 0x1234_5678_9ABC_DEF0L;
+
+        assertThat(TranscriptFingerprint.band(fingerprint, 0)).isEqualTo(0xDEF0);
+        assertThat(TranscriptFingerprint.band(fingerprint, 1)).isEqualTo(0x9ABC);
+        assertThat(TranscriptFingerprint.band(fingerprint, 2)).isEqualTo(0x5678);
+        assertThat(TranscriptFingerprint.band(fingerprint, 3)).isEqualTo(0x1234);
+    }
+
+    @Test
+    void fingerprintsWithinMaxDistanceShareAtLeastOneBand() {
+        long fingerprint = 0x1234_5678_9ABC_DEF0L;
+        // 서로 다른 band 3개에서 1비트씩 바꿈
+        long flipped = fingerprint ^ (1L << 3) ^ (1L << 20) ^ (1L << 40);
+
+        assertThat(TranscriptFingerprint.distance(fingerprint, flipped)).isEqualTo(3);
+        assertThat(TranscriptFingerprint.band(flipped, 3)).isEqualTo(TranscriptFingerprint.band(fingerprint, 3));
+        assertThat(TranscriptFingerprint.distance(fingerprint, fingerprint)).isZero();
+        assertThat(TranscriptFingerprint.distance(0L, -1L)).isEqualTo(64);
+    }
+
+    private static String transcript(String[] words, long seed) {
+        Random random = new Random(seed);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 400; i++) {
+            text.append(words[random.nextInt(words.length)]).append(i % 7 == 0 ? ". " : " ");
+        }
+        return text.toString();
+    }
+}
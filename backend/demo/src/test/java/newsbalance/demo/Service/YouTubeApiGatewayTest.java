@@ -0,0 +1,193 @@
+package newsbalance.demo.Service;
+
+import newsbalance.demo.Configuration.YouTubeConfig;
+import newsbalance.demo.Entity.YouTubeQuotaUsage;
+import newsbalance.demo.Repository.JPA.YouTubeQuotaUsageRepository;
+import newsbalance.demo.Service.YouTubeApiGateway.Endpoint;
+import newsbalance.demo.Service.YouTubeApiGateway.Priority;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class YouTubeApiGatewayTest {
+
+    private static final String QUERY = "part=snippet&q=news";
+
+    private final AtomicInteger apiCalls = new AtomicInteger();
+    // 토큰 충전에 쓰는 시각 (테스트에서 직접 진행)
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private YouTubeConfig config;
+    private YouTubeResponseCache responseCache;
+    private YouTubeQuotaUsageRepository usageRepo;
+    private WebClient webClient;
+
+    @BeforeEach
+    void setUp() {
+        config = new YouTubeConfig();
+        config.setApiKey("test-key");
+        responseCache = mock(YouTubeResponseCache.class);
+        usageRepo = mock(YouTubeQuotaUsageRepository.class);
+        // 실제 API 대신 빈 응답을 돌려주고 호출 횟수만 셈
+        webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    apiCalls.incrementAndGet();
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body("{\"items\":[]}")
+                            .build());
+                })
+                .build();
+    }
+
+    @Test
+    void backgroundCallsCannotSpendInteractiveReserve() {
+        config.setDailyQuota(1_000);
+        config.setInteractiveQuotaReserve(950);
+        YouTubeApiGateway gateway = gateway();
+
+        StepVerifier.create(gateway.get(Endpoint.SEARCH, QUERY, Priority.BACKGROUND, Map.class))
+                .expectError(QuotaExceededException.class)
+                .verify();
+        assertThat(apiCalls).hasValue(0);
+
+        StepVerifier.create(gateway.get(Endpoint.SEARCH, QUERY, Priority.INTERACTIVE, Map.class))
+                .expectNextCount(1)
+                .verifyComplete();
+        assertThat(apiCalls).hasValue(1);
+        assertThat(gateway.getRemainingQuota()).isEqualTo(900);
+    }
+
+    @Test
+    void rejectsWhenBucketCannotCoverEndpointCost() {
+        config.setDailyQuota(150);
+        config.setInteractiveQuotaReserve(0);
+        YouTubeApiGateway gateway = gateway();
+
+        StepVerifier.create(gateway.get(Endpoint.SEARCH, QUERY, Priority.INTERACTIVE, Map.class))
+                .expectNextCount(1)
+                .verifyComplete();
+        StepVerifier.create(gateway.get(Endpoint.SEARCH, QUERY, Priority.INTERACTIVE, Map.class))
+                .expectError(QuotaExceededException.class)
+                .verify();
+        // 남은 50 으로 videos(1) 호출은 가능
+        StepVerifier.create(gateway.get(Endpoint.VIDEOS, "part=snippet&id=abc", Priority.INTERACTIVE, Map.class))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertThat(apiCalls).hasValue(2);
+    }
+
+    @Test
+    void refillsOverTimeUpToDailyQuota() {
+        // 초당 1 토큰씩 채워지도록 설정
+        config.setDailyQuota(86_400);
+        config.setInteractiveQuotaReserve(0);
+        usedToday(86_400);
+        YouTubeApiGateway gateway = gateway();
+
+        gateway.syncUsage();
+        assertThat(gateway.getRemainingQuota()).isZero();
+
+        advance(1, TimeUnit.HOURS);
+        assertThat(gateway.getRemainingQuota()).isEqualTo(3_600);
+
+        advance(2, TimeUnit.DAYS);
+        assertThat(gateway.getRemainingQuota()).isEqualTo(86_400);
+    }
+
+    @Test
+    void fullBucketDoesNotGrowPastDailyQuota() {
+        config.setDailyQuota(10_000);
+        YouTubeApiGateway gateway = gateway();
+
+        advance(1, TimeUnit.DAYS);
+
+        assertThat(gateway.getRemainingQuota()).isEqualTo(10_000);
+    }
+
+    @Test
+    void syncUsageRecordsSpentUnitsAndCapsTokensByTodaysUsage() {
+        config.setDailyQuota(10_000);
+        config.setInteractiveQuotaReserve(0);
+        usedToday(9_990);
+        YouTubeApiGateway gateway = gateway();
+
+        StepVerifier.create(gateway.get(Endpoint.SEARCH, QUERY, Priority.INTERACTIVE, Map.class))
+                .expectNextCount(1)
+                .verifyComplete();
+        gateway.syncUsage();
+        gateway.syncUsage();
+
+        verify(usageRepo, times(1)).addUnits(any(LocalDate.class), eq(100L));
+        assertThat(gateway.getRemainingQuota()).isEqualTo(10);
+    }
+
+    @Test
+    void keepsUnrecordedUnitsWhenWriteFails() {
+        config.setDailyQuota(10_000);
+        config.setInteractiveQuotaReserve(0);
+        YouTubeApiGateway gateway = gateway();
+        doThrow(new RuntimeException("db down"))
+                .doReturn(1)
+                .when(usageRepo).addUnits(any(LocalDate.class), anyLong());
+
+        StepVerifier.create(gateway.get(Endpoint.SEARCH, QUERY, Priority.INTERACTIVE, Map.class))
+                .expectNextCount(1)
+                .verifyComplete();
+        gateway.syncUsage();
+        gateway.syncUsage();
+
+        verify(usageRepo, times(2)).addUnits(any(LocalDate.class), eq(100L));
+        verify(usageRepo, times(1)).findById(any(LocalDate.class));
+    }
+
+    @Test
+    void skipsWriteWhenNothingWasSpent() {
+        YouTubeApiGateway gateway = gateway();
+
+        gateway.syncUsage();
+
+        verify(usageRepo, never()).addUnits(any(LocalDate.class), anyLong());
+        assertThat(gateway.getRemainingQuota()).isEqualTo(config.getDailyQuota());
+    }
+
+    private YouTubeApiGateway gateway() {
+        return new YouTubeApiGateway(config, webClient, responseCache, usageRepo, nanoTime::get);
+    }
+
+    private void advance(long amount, TimeUnit unit) {
+        nanoTime.addAndGet(unit.toNanos(amount));
+    }
+
+    private void usedToday(long units) {
+        YouTubeQuotaUsage usage = new YouTubeQuotaUsage();
+        usage.setQuotaDay(LocalDate.now());
+        usage.setUnits(units);
+        when(usageRepo.findById(any(LocalDate.class))).thenReturn(Optional.of(usage));
+    }
+}
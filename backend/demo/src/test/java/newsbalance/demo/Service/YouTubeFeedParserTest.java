@@ -0,0 +1,91 @@
+package newsbalance.demo.Service;
+
+import newsbalance.demo.DTO.FeedEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.xml.stream.XMLStreamException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class YouTubeFeedParserTest {
+
+    private static final String FEED_OPEN =
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+            "<feed xmlns=\"http://www.w3.org/2005/Atom\" xmlns:yt=\"http://www.youtube.com/xml/schemas/2015\">";
+    private static final String FEED_CLOSE = "</feed>";
+
+    @Test
+    void parsesVideoAndChannelIdOfEachEntry() throws XMLStreamException {
+        String xml = FEED_OPEN +
+                "<title>YouTube video feed</title>" +
+                "<entry>" +
+                "<id>yt:video:VIDEO000001</id>" +
+                "<yt:videoId> VIDEO000001 </yt:videoId>" +
+                "<yt:channelId>CHANNEL01</yt:channelId>" +
+                "<title>첫 번째 영상</title>" +
+                "</entry>" +
+                "<entry>" +
+                "<yt:videoId>VIDEO000002</yt:videoId>" +
+                "<yt:channelId>CHANNEL02</yt:channelId>" +
+                "</entry>" +
+                FEED_CLOSE;
+
+        List<FeedEntry> entries = YouTubeFeedParser.parse(xml);
+
+        assertThat(entries).containsExactly(
+                new FeedEntry("VIDEO000001", "CHANNEL01"),
+                new FeedEntry("VIDEO000002", "CHANNEL02"));
+    }
+
+    @Test
+    void ignoresElementsOutsideYouTubeNamespaceAndEntriesWithoutVideoId() throws XMLStreamException {
+        String xml = FEED_OPEN +
+                // feed 수준의 yt:channelId 는 entry 밖이므로 무시
+                "<yt:channelId>FEEDCHANNEL</yt:channelId>" +
+                "<entry>" +
+                "<videoId>NOT_YT_NS</videoId>" +
+                "<yt:channelId>CHANNEL01</yt:channelId>" +
+                "</entry>" +
+                "<entry>" +
+                "<yt:videoId>VIDEO000003</yt:videoId>" +
+                "</entry>" +
+                FEED_CLOSE;
+
+        List<FeedEntry> entries = YouTubeFeedParser.parse(xml);
+
+        assertThat(entries).containsExactly(new FeedEntry("VIDEO000003", null));
+    }
+
+    @Test
+    void returnsEmptyListForBlankBody() throws XMLStreamException {
+        assertThat(YouTubeFeedParser.parse(null)).isEmpty();
+        assertThat(YouTubeFeedParser.parse("  ")).isEmpty();
+    }
+
+    @Test
+    void doesNotResolveExternalEntities(@TempDir Path dir) throws Exception {
+        Path secret = dir.resolve("secret.txt");
+        Files.writeString(secret, "SECRET_CONTENT");
+        String xml = "<?xml version=\"1.0\"?>" +
+                "<!DOCTYPE feed [<!ENTITY xxe SYSTEM \"" + secret.toUri() + "\">]>" +
+                "<feed xmlns=\"http://www.w3.org/2005/Atom\" xmlns:yt=\"http://www.youtube.com/xml/schemas/2015\">" +
+                "<entry><yt:videoId>&xxe;</yt:videoId><yt:channelId>&xxe;</yt:channelId></entry>" +
+                FEED_CLOSE;
+
+        // DTD 를 처리하지 않으므로 파싱 실패하거나, 파싱되더라도 파일 내용이 들어오면 안 됨
+        List<FeedEntry> entries;
+        try {
+            entries = YouTubeFeedParser.parse(xml);
+        } catch (XMLStreamException e) {
+            return;
+        }
+        assertThat(entries).allSatisfy(entry -> {
+            assertThat(entry.videoId()).doesNotContain("SECRET_CONTENT");
+            assertThat(entry.channelId()).doesNotContain("SECRET_CONTENT");
+        });
+    }
+}
@@ -0,0 +1,64 @@
+package newsbalance.demo.Service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class YouTubeUrlsTest {
+
+    private static final String WATCH_URL = "https://www.youtube.com/watch?v=dQw4w9WgXcQ";
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "https://www.youtube.com/watch?v=dQw4w9WgXcQ",
+            "http://youtube.com/watch?v=dQw4w9WgXcQ",
+            "www.youtube.com/watch?v=dQw4w9WgXcQ",
+            "https://m.youtube.com/watch?v=dQw4w9WgXcQ&t=10",
+            "https://music.youtube.com/watch?v=dQw4w9WgXcQ&list=PL123",
+            "https://www.youtube.com/watch?feature=share&v=dQw4w9WgXcQ",
+            "https://youtu.be/dQw4w9WgXcQ",
+            "https://youtu.be/dQw4w9WgXcQ?si=abc&t=42",
+            "https://www.youtube.com/shorts/dQw4w9WgXcQ",
+            "https://www.youtube.com/embed/dQw4w9WgXcQ?autoplay=1",
+            "https://www.youtube.com/live/dQw4w9WgXcQ",
+            "https://www.youtube.com/v/dQw4w9WgXcQ",
+            "  https://youtu.be/dQw4w9WgXcQ  "
+    })
+    void normalizesVideoLinksToWatchUrl(String url) {
+        assertThat(YouTubeUrls.normalize(url)).isEqualTo(WATCH_URL);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "https://news.example.com/article/123",
+            "https://www.youtube.com/channel/UC1234567890",
+            // 11자보다 긴 ID 는 영상 링크로 보지 않음
+            "https://youtu.be/dQw4w9WgXcQextra"
+    })
+    void leavesOtherLinksUnchangedExceptTrimming(String url) {
+        assertThat(YouTubeUrls.normalize(" " + url + " ")).isEqualTo(url);
+    }
+
+    @Test
+    void passesNullThrough() {
+        assertThat(YouTubeUrls.normalize(null)).isNull();
+    }
+
+    @Test
+    void recognizesVideoIds() {
+        assertThat(YouTubeUrls.isVideoId("dQw4w9WgXcQ")).isTrue();
+        assertThat(YouTubeUrls.isVideoId("a_b-c123456")).isTrue();
+        assertThat(YouTubeUrls.isVideoId(null)).isFalse();
+        assertThat(YouTubeUrls.isVideoId("dQw4w9WgXc")).isFalse();
+        assertThat(YouTubeUrls.isVideoId("dQw4w9WgXcQQ")).isFalse();
+        assertThat(YouTubeUrls.isVideoId("dQw4w9WgX&Q")).isFalse();
+        assertThat(YouTubeUrls.isVideoId("abc&key=xyz")).isFalse();
+    }
+
+    @Test
+    void buildsWatchUrl() {
+        assertThat(YouTubeUrls.watchUrl("dQw4w9WgXcQ")).isEqualTo(WATCH_URL);
+    }
+}
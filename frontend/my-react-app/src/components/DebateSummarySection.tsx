@@ -14,6 +14,27 @@ type SummarizeResponse = {
     keywords: string[];
 };
 
+// 요약이 아직 없을 때 202 로 받는 작업 핸들 (/topic/summary/{roomId} 로도 같은 형태가 전송됨)
+export type SummaryJob = {
+    roomId: number;
+    key: string;
+    status: 'PENDING' | 'COMPLETED' | 'FAILED';
+    summary: SummarizeResponse | null;
+};
+
+// 결과는 토론방 웹소켓으로 받고, 상태 조회는 대비용으로만 함
+// (연결이 끊긴 동안은 짧게, 연결 중에는 이벤트를 놓친 경우에만 걸리도록 길게)
+const POLL_INTERVAL_MS = 3000;
+const FALLBACK_POLL_INTERVAL_MS = 15000;
+const SUMMARY_TIMEOUT_MS = 120000;
+
+// 대기 중인 요약 작업과 상태 조회 주소 (202 응답의 Location)
+type PendingSummary = {
+    job: SummaryJob;
+    location: string;
+    startedAt: number;
+};
+
 interface DebateMessage {
     speaker: string;
     text: string;
@@ -61,13 +82,47 @@ const DebateSummarySection: React.FC<{
     roomId: number; 
     message: DebateMessage | null;
     onFactCheckComplete?: () => void;
-}> = ({ roomId, message, onFactCheckComplete }) => {
+    summaryEvent?: SummaryJob | null;
+    isConnected?: boolean;
+}> = ({ roomId, message, onFactCheckComplete, summaryEvent, isConnected }) => {
     const [summary, setSummary] = useState<string | null>(null);
     const [articles, setArticles] = useState<RelatedArticle[]>([]);
     const [loadingState, setLoadingState] = useState<LoadingState>('idle');
     const [error, setError] = useState<string | null>(null);
+    const [pending, setPending] = useState<PendingSummary | null>(null);
+
+    const finish = (data: SummarizeResponse) => {
+        setPending(null);
+        setSummary(data.summarizemessage);
+        setArticles(data.relatedArticles);
+        setLoadingState('success');
+        onFactCheckComplete?.();
+    };
 
+    const fail = (err: Error) => {
+        setPending(null);
+        console.error('요약 실패:', err);
+        setError(err.message || '요약 중 오류가 발생했습니다');
+        setLoadingState('error');
+        setSummary(null);
+        setArticles([]);
+        onFactCheckComplete?.();
+    };
+
+    // 200 이면 결과, 202 면 작업 핸들 반환, 그 외는 실패
+    const readResponse = async (res: Response): Promise<SummaryJob | SummarizeResponse> => {
+        if (res.status === 202) return res.json();
+        if (!res.ok) throw new Error('요약 요청 실패');
+        return res.json();
+    };
+
+    const isJob = (data: SummaryJob | SummarizeResponse): data is SummaryJob =>
+        (data as SummaryJob).key !== undefined;
+
+    // 요약 요청
     useEffect(() => {
+        setPending(null);
+
         if (!message) {
             setLoadingState('idle');
             setSummary(null);
@@ -79,6 +134,8 @@ const DebateSummarySection: React.FC<{
         setLoadingState('loading');
         setError(null);
 
+        let cancelled = false;
+
         fetch(`${API_BASE}/api/debate/summary`, {
             method: 'POST',
             headers: {
@@ -87,26 +144,76 @@ const DebateSummarySection: React.FC<{
             },
             body: JSON.stringify({ roomId, messages: message }),
         })
-            .then((res) => {
-                if (!res.ok) throw new Error('요약 요청 실패');
-                return res.json();
-            })
-            .then((data: SummarizeResponse) => {
-                setSummary(data.summarizemessage);
-                setArticles(data.relatedArticles);
-                setLoadingState('success');
-                onFactCheckComplete?.();
+            .then(async (res) => {
+                const data = await readResponse(res);
+                if (cancelled) return;
+                if (!isJob(data)) {
+                    finish(data);
+                    return;
+                }
+                const location = res.headers.get('Location')
+                    || `/api/debate/summary/${roomId}/${data.key}`;
+                setPending({
+                    job: data,
+                    location: new URL(location, API_BASE).toString(),
+                    startedAt: Date.now(),
+                });
             })
             .catch((err) => {
-                console.error('요약 실패:', err);
-                setError(err.message || '요약 중 오류가 발생했습니다');
-                setLoadingState('error');
-                setSummary(null);
-                setArticles([]);
-                onFactCheckComplete?.();
+                if (!cancelled) fail(err);
             });
+
+        return () => {
+            cancelled = true;
+        };
     }, [roomId, message]);
 
+    // 토론방 웹소켓으로 받은 결과 반영 (같은 방의 다른 발언 요약도 오므로 key 로 구분)
+    useEffect(() => {
+        if (!pending || !summaryEvent || summaryEvent.key !== pending.job.key) return;
+        if (summaryEvent.status === 'COMPLETED' && summaryEvent.summary) {
+            finish(summaryEvent.summary);
+        } else if (summaryEvent.status === 'FAILED') {
+            fail(new Error('요약 서버가 일시적으로 응답하지 않아 요약을 만들지 못했습니다'));
+        }
+    }, [summaryEvent, pending]);
+
+    // 웹소켓 결과를 놓치거나 연결이 끊긴 경우를 위한 상태 조회
+    useEffect(() => {
+        if (!pending) return;
+
+        let cancelled = false;
+        let pollTimer: ReturnType<typeof setTimeout> | null = null;
+
+        const poll = () => {
+            pollTimer = setTimeout(() => {
+                if (Date.now() - pending.startedAt > SUMMARY_TIMEOUT_MS) {
+                    fail(new Error('요약 시간이 초과되었습니다'));
+                    return;
+                }
+                fetch(pending.location, {
+                    headers: { Accept: 'application/json' },
+                })
+                    .then(readResponse)
+                    .then((data) => {
+                        if (cancelled) return;
+                        if (isJob(data)) poll();
+                        else finish(data);
+                    })
+                    .catch((err) => {
+                        if (!cancelled) fail(err);
+                    });
+            }, isConnected ? FALLBACK_POLL_INTERVAL_MS : POLL_INTERVAL_MS);
+        };
+
+        poll();
+
+        return () => {
+            cancelled = true;
+            if (pollTimer) clearTimeout(pollTimer);
+        };
+    }, [pending, isConnected]);
+
     // 상태별 렌더링 함수
     const renderSummaryContent = () => {
         switch (loadingState) {
@@ -4,7 +4,7 @@ import { useNavigate } from "react-router-dom";
 import { toast } from "react-hot-toast";
 import { API_BASE } from '../api/config';
 import parse from 'html-react-parser';
-import DebateSummarySection from "../components/DebateSummarySection";
+import DebateSummarySection, { SummaryJob } from "../components/DebateSummarySection";
 
 interface DebateMessage {
     speaker: string;
@@ -45,6 +45,8 @@ interface Props {
         requester: string;
         isPending: boolean;
     } | null;
+    summaryEvent?: SummaryJob | null;
+    isConnected?: boolean;
 }
 
 type RelatedArticle = {
@@ -273,6 +275,8 @@ const DebateRoomPage: React.FC<Props> = ({
     onAcceptDebateEnd,
     onRejectDebateEnd,
     debateEndRequest,
+    summaryEvent,
+    isConnected,
 }) => {
     const [input, setInput] = useState("");
     const [chatInput, setChatInput] = useState("");
@@ -700,6 +704,8 @@ const DebateRoomPage: React.FC<Props> = ({
                             <DebateSummarySection 
                                 roomId={parseInt(roomId || '0')} 
                                 message={summaryTargetMessage}
+                                summaryEvent={summaryEvent}
+                                isConnected={isConnected}
                                 onFactCheckComplete={() => {
                                     setCurrentFactCheckingIndex(null);
                                     setIsFactChecking(false);
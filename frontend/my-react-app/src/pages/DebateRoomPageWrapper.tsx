@@ -4,6 +4,7 @@ import React, { useEffect, useState, useRef } from 'react';
 import * as StompJs from '@stomp/stompjs';
 import SockJS from 'sockjs-client';
 import { useAuth } from '../contexts/AuthContext';
+import { SummaryJob } from '../components/DebateSummarySection';
 import { API_BASE, API_URL, WS_URL } from '../api/config';
 
 
@@ -66,6 +67,10 @@ const DebateRoomPageWrapper: React.FC = () => {
         isPending: boolean;
     } | null>(null);
 
+    // 발언 요약 결과 이벤트 (/topic/summary/{roomId}) 와 연결 상태
+    const [summaryEvent, setSummaryEvent] = useState<SummaryJob | null>(null);
+    const [isConnected, setIsConnected] = useState<boolean>(false);
+
     // WebSocket 클라이언트 참조
     const stompClient = useRef<any>(null);
 
@@ -119,6 +124,7 @@ const DebateRoomPageWrapper: React.FC = () => {
 
         client.onConnect = () => {
             stompClient.current = client;
+            setIsConnected(true);
 
             // 방 상태 구독
             client.subscribe(`/topic/room/${roomId}/status`, message => {
@@ -199,11 +205,25 @@ const DebateRoomPageWrapper: React.FC = () => {
                     // 오류 처리만 하고 로그 출력하지 않음
                 }
             });
+
+            // 발언 요약 결과 구독 (어떤 요청의 결과인지는 DebateSummarySection 에서 key 로 구분)
+            client.subscribe('/topic/summary/' + roomId, function (message) {
+                try {
+                    setSummaryEvent(JSON.parse(message.body));
+                } catch (err) {
+                    // 오류 처리만 하고 로그 출력하지 않음
+                }
+            });
+        };
+
+        client.onWebSocketClose = () => {
+            setIsConnected(false);
         };
 
         client.activate();
 
         return () => {
+            setIsConnected(false);
             if (client.connected) client.deactivate();
         };
     }, [roomId, userName]);
@@ -867,6 +887,8 @@ const DebateRoomPageWrapper: React.FC = () => {
             onAcceptDebateEnd={handleAcceptDebateEnd}
             onRejectDebateEnd={handleRejectDebateEnd}
             debateEndRequest={debateEndRequest}
+            summaryEvent={summaryEvent}
+            isConnected={isConnected}
         />
     );
 };